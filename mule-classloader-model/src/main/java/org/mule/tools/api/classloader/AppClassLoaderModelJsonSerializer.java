@@ -35,14 +35,14 @@ import com.google.gson.JsonSerializer;
  */
 public class AppClassLoaderModelJsonSerializer extends ClassLoaderModelJsonSerializer {
 
+  private static final Gson DESERIALIZER_GSON = new GsonBuilder()
+      .enableComplexMapKeySerialization()
+      .setPrettyPrinting()
+      .create();
+
   public static AppClassLoaderModel deserialize(File classLoaderModelDescriptor) {
     try (Reader reader = new BufferedReader(new FileReader(classLoaderModelDescriptor))) {
-      Gson gson = new GsonBuilder()
-          .enableComplexMapKeySerialization()
-          .setPrettyPrinting()
-          .create();
-
-      AppClassLoaderModel classLoaderModel = gson.fromJson(reader, AppClassLoaderModel.class);
+      AppClassLoaderModel classLoaderModel = DESERIALIZER_GSON.fromJson(reader, AppClassLoaderModel.class);
       validate(classLoaderModel, classLoaderModelDescriptor);
       return classLoaderModel;
     } catch (IOException e) {
@@ -57,14 +57,15 @@ public class AppClassLoaderModelJsonSerializer extends ClassLoaderModelJsonSeria
    */
   public static class AppClassLoaderModelCustomJsonSerializer implements JsonSerializer<AppClassLoaderModel> {
 
+    private static final Gson GSON = new GsonBuilder()
+        .enableComplexMapKeySerialization()
+        .registerTypeAdapter(Artifact.class, new ArtifactCustomJsonSerializer())
+        .create();
+
     @Override
     public JsonElement serialize(AppClassLoaderModel classLoaderModel, Type type,
                                  JsonSerializationContext jsonSerializationContext) {
-      Gson gson = new GsonBuilder()
-          .enableComplexMapKeySerialization()
-          .registerTypeAdapter(Artifact.class, new ArtifactCustomJsonSerializer())
-          .create();
-      JsonObject jsonObject = (JsonObject) gson.toJsonTree(classLoaderModel);
+      JsonObject jsonObject = (JsonObject) GSON.toJsonTree(classLoaderModel);
       if (classLoaderModel.getAdditionalPluginDependencies().map(List::isEmpty).orElse(false)) {
         jsonObject.remove(ADDITIONAL_PLUGIN_DEPENDENCIES_FIELD);
       } else {
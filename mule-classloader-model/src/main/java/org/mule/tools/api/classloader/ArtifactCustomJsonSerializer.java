@@ -26,10 +26,11 @@ import com.google.gson.JsonSerializer;
  */
 public class ArtifactCustomJsonSerializer implements JsonSerializer<Artifact> {
 
+  private static final Gson GSON = new GsonBuilder().create();
+
   @Override
   public JsonElement serialize(Artifact artifact, Type type, JsonSerializationContext jsonSerializationContext) {
-    Gson gson = new GsonBuilder().create();
-    JsonObject jsonObject = (JsonObject) gson.toJsonTree(artifact);
+    JsonObject jsonObject = (JsonObject) GSON.toJsonTree(artifact);
     if (!artifact.isShared()) {
       jsonObject.remove(ARTIFACT_IS_SHARED_FIELD);
     }
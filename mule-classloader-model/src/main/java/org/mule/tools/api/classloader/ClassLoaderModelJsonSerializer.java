@@ -6,9 +6,12 @@
  */
 package org.mule.tools.api.classloader;
 
+import static org.mule.tools.api.classloader.Constants.ARTIFACT_COORDINATES_FIELD;
 import static org.mule.tools.api.classloader.Constants.CLASSLOADER_MODEL_FILE_NAME;
+import static org.mule.tools.api.classloader.Constants.DEPENDENCIES_FIELD;
 import static org.mule.tools.api.classloader.Constants.PACKAGES_FIELD;
 import static org.mule.tools.api.classloader.Constants.RESOURCES_FIELD;
+import static org.mule.tools.api.classloader.Constants.VERSION_FIELD;
 
 import static java.lang.String.format;
 
@@ -18,23 +21,31 @@ import org.mule.tools.api.classloader.model.ArtifactCoordinates;
 import org.mule.tools.api.classloader.model.ClassLoaderModel;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
-import java.lang.reflect.Type;
+import java.util.List;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 public class ClassLoaderModelJsonSerializer {
 
+  private static final Gson DESERIALIZER_GSON = new GsonBuilder()
+      .enableComplexMapKeySerialization()
+      .create();
+  private static final Gson SERIALIZER_GSON = createSerializerGson(false);
+  private static final Gson PRETTY_PRINTING_SERIALIZER_GSON = createSerializerGson(true);
+
   /**
    * Creates a {@link ClassLoaderModel} from the JSON representation
    *
@@ -43,11 +54,7 @@ public class ClassLoaderModelJsonSerializer {
    */
   public static ClassLoaderModel deserialize(File classLoaderModelDescriptor) {
     try (Reader reader = new BufferedReader(new FileReader(classLoaderModelDescriptor))) {
-      Gson gson = new GsonBuilder()
-          .enableComplexMapKeySerialization()
-          .create();
-
-      ClassLoaderModel classLoaderModel = gson.fromJson(reader, ClassLoaderModel.class);
+      ClassLoaderModel classLoaderModel = DESERIALIZER_GSON.fromJson(reader, ClassLoaderModel.class);
       validate(classLoaderModel, classLoaderModelDescriptor);
       return classLoaderModel;
     } catch (IOException e) {
@@ -133,19 +140,36 @@ public class ClassLoaderModelJsonSerializer {
    * @return string containing the classloader model's JSON representation
    */
   public static String serialize(ClassLoaderModel classLoaderModel, boolean prettyPrinting) {
+    Gson gson = prettyPrinting ? PRETTY_PRINTING_SERIALIZER_GSON : SERIALIZER_GSON;
+    ClassLoaderModel parameterizedClassloaderModel = classLoaderModel.getParametrizedUriModel();
+    return gson.toJson(parameterizedClassloaderModel);
+  }
+
+  /**
+   * Serializes the classloader model to a writer
+   *
+   * @param classLoaderModel the classloader model of the application being packaged
+   * @param prettyPrinting   if {@code true} the json will be printed with pretty print mode
+   * @param writer           where the classloader model's JSON representation is written, it is not closed
+   * @throws JsonIOException if there is a problem writing to the writer
+   */
+  public static void serialize(ClassLoaderModel classLoaderModel, boolean prettyPrinting, Appendable writer) {
+    Gson gson = prettyPrinting ? PRETTY_PRINTING_SERIALIZER_GSON : SERIALIZER_GSON;
+    gson.toJson(classLoaderModel.getParametrizedUriModel(), writer);
+  }
+
+  private static Gson createSerializerGson(boolean prettyPrinting) {
     GsonBuilder gsonBuilder = new GsonBuilder().enableComplexMapKeySerialization();
     if (prettyPrinting) {
       gsonBuilder = gsonBuilder.setPrettyPrinting();
     }
-    Gson gson = gsonBuilder
+    return gsonBuilder
         .registerTypeAdapter(Artifact.class, new ArtifactCustomJsonSerializer())
         .registerTypeAdapter(AppClassLoaderModel.class,
                              new AppClassLoaderModelJsonSerializer.AppClassLoaderModelCustomJsonSerializer())
         .registerTypeAdapter(ClassLoaderModel.class,
                              new ClassLoaderModelCustomJsonSerializer())
         .create();
-    ClassLoaderModel parameterizedClassloaderModel = classLoaderModel.getParametrizedUriModel();
-    return gson.toJson(parameterizedClassloaderModel);
   }
 
   /**
@@ -178,34 +202,64 @@ public class ClassLoaderModelJsonSerializer {
     } catch (IOException e) {
       throw new RuntimeException("Could not create classloader-model.json", e);
     }
-    try (Writer writer = new FileWriter(destinationFile.getAbsolutePath())) {
-      writer.write(serialize(classLoaderModel, prettyPrinting));
-      writer.close();
+    // The JSON is streamed to the file instead of being built as a String first, as it can take several megabytes for
+    // artifacts that export thousands of packages and resources
+    try (Writer writer = new BufferedWriter(new FileWriter(destinationFile.getAbsolutePath()))) {
+      serialize(classLoaderModel, prettyPrinting, writer);
       return destinationFile;
-    } catch (IOException e) {
+    } catch (IOException | JsonIOException e) {
       throw new RuntimeException("Could not create classloader-model.json", e);
     }
   }
 
-  private static class ClassLoaderModelCustomJsonSerializer implements JsonSerializer<ClassLoaderModel> {
+  /**
+   * Writes the classloader model straight to the {@link JsonWriter}, leaving out the packages and resources when they are
+   * empty, so no tree of the whole model is built in memory.
+   */
+  private static class ClassLoaderModelCustomJsonSerializer extends TypeAdapter<ClassLoaderModel> {
+
+    private static final Gson GSON = new GsonBuilder()
+        .enableComplexMapKeySerialization()
+        .registerTypeAdapter(Artifact.class, new ArtifactCustomJsonSerializer())
+        .create();
+    private static final TypeAdapter<ArtifactCoordinates> ARTIFACT_COORDINATES_ADAPTER =
+        GSON.getAdapter(ArtifactCoordinates.class);
+    private static final TypeAdapter<List<Artifact>> DEPENDENCIES_ADAPTER =
+        GSON.getAdapter(new TypeToken<List<Artifact>>() {});
+    private static final TypeAdapter<String[]> STRING_ARRAY_ADAPTER = GSON.getAdapter(String[].class);
 
     @Override
-    public JsonElement serialize(ClassLoaderModel classLoaderModel, Type type,
-                                 JsonSerializationContext jsonSerializationContext) {
-      Gson gson = new GsonBuilder()
-          .enableComplexMapKeySerialization()
-          .registerTypeAdapter(Artifact.class, new ArtifactCustomJsonSerializer())
-          .create();
-      JsonObject jsonObject = (JsonObject) gson.toJsonTree(classLoaderModel);
-
-      if (classLoaderModel.getPackages() == null || classLoaderModel.getPackages().length == 0) {
-        jsonObject.remove(PACKAGES_FIELD);
+    public void write(JsonWriter out, ClassLoaderModel classLoaderModel) throws IOException {
+      if (classLoaderModel == null) {
+        out.nullValue();
+        return;
       }
-      if (classLoaderModel.getResources() == null || classLoaderModel.getResources().length == 0) {
-        jsonObject.remove(RESOURCES_FIELD);
+      out.beginObject();
+      if (classLoaderModel.getVersion() != null) {
+        out.name(VERSION_FIELD).value(classLoaderModel.getVersion());
       }
+      if (classLoaderModel.getArtifactCoordinates() != null) {
+        out.name(ARTIFACT_COORDINATES_FIELD);
+        ARTIFACT_COORDINATES_ADAPTER.write(out, classLoaderModel.getArtifactCoordinates());
+      }
+      if (classLoaderModel.getDependencies() != null) {
+        out.name(DEPENDENCIES_FIELD);
+        DEPENDENCIES_ADAPTER.write(out, classLoaderModel.getDependencies());
+      }
+      if (classLoaderModel.getPackages() != null && classLoaderModel.getPackages().length > 0) {
+        out.name(PACKAGES_FIELD);
+        STRING_ARRAY_ADAPTER.write(out, classLoaderModel.getPackages());
+      }
+      if (classLoaderModel.getResources() != null && classLoaderModel.getResources().length > 0) {
+        out.name(RESOURCES_FIELD);
+        STRING_ARRAY_ADAPTER.write(out, classLoaderModel.getResources());
+      }
+      out.endObject();
+    }
 
-      return jsonObject;
+    @Override
+    public ClassLoaderModel read(JsonReader in) throws IOException {
+      return GSON.fromJson(in, ClassLoaderModel.class);
     }
   }
 }
@@ -22,6 +22,9 @@ public class Constants {
   public static final String PLUGIN_FIELD = "plugin";
   public static final String PLUGIN_DEPENDENCIES_FIELD = "additionalDependencies";
   public static final String PLUGIN_DEPENDENCY_FIELD = "dependency";
+  public static final String VERSION_FIELD = "version";
+  public static final String ARTIFACT_COORDINATES_FIELD = "artifactCoordinates";
+  public static final String DEPENDENCIES_FIELD = "dependencies";
   public static final String PACKAGES_FIELD = "packages";
   public static final String RESOURCES_FIELD = "resources";
 
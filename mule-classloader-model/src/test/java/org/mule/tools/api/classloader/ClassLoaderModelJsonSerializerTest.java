@@ -16,12 +16,22 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mule.tools.api.classloader.Constants.PACKAGES_FIELD;
+import static org.mule.tools.api.classloader.Constants.RESOURCES_FIELD;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
 
 class ClassLoaderModelJsonSerializerTest {
 
@@ -54,6 +64,95 @@ class ClassLoaderModelJsonSerializerTest {
         .isEqualTo(expectedClassLoaderModel);
   }
 
+  @Test
+  void serializedFileMatchesSerializedString(@TempDir Path tempDir) throws URISyntaxException, IOException {
+    ClassLoaderModel classLoaderModel =
+        new ClassLoaderModel(VERSION, new ArtifactCoordinates(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, CLASSIFIER));
+    classLoaderModel.setDependencies(getDependencies());
+
+    for (boolean prettyPrinting : new boolean[] {true, false}) {
+      File classloaderModelJsonFile =
+          ClassLoaderModelJsonSerializer.serializeToFile(classLoaderModel, tempDir.resolve(String.valueOf(prettyPrinting))
+              .toFile(), prettyPrinting);
+      assertThat(new String(Files.readAllBytes(classloaderModelJsonFile.toPath()), Charset.defaultCharset()))
+          .isEqualTo(ClassLoaderModelJsonSerializer.serialize(classLoaderModel, prettyPrinting));
+    }
+  }
+
+  @Test
+  void concurrentSerializationsProduceTheSameJson() throws Exception {
+    ClassLoaderModel classLoaderModel =
+        new ClassLoaderModel(VERSION, new ArtifactCoordinates(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, CLASSIFIER));
+    classLoaderModel.setDependencies(getDependencies());
+    String expected = ClassLoaderModelJsonSerializer.serialize(classLoaderModel, true);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> serializations = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        boolean prettyPrinting = i % 2 == 0;
+        serializations.add(executorService.submit(() -> ClassLoaderModelJsonSerializer.serialize(classLoaderModel,
+                                                                                                  prettyPrinting)));
+      }
+      for (int i = 0; i < serializations.size(); i++) {
+        String json = serializations.get(i).get();
+        if (i % 2 == 0) {
+          assertThat(json).isEqualTo(expected);
+        } else {
+          assertThat(json).doesNotContain("\n").isEqualToIgnoringWhitespace(expected);
+        }
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void serializationMatchesTreeBasedSerialization() throws URISyntaxException {
+    List<ClassLoaderModel> classLoaderModels = new ArrayList<>();
+    ClassLoaderModel emptyModel =
+        new ClassLoaderModel(VERSION, new ArtifactCoordinates(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, CLASSIFIER));
+    emptyModel.setPackages(new String[0]);
+    emptyModel.setResources(new String[0]);
+    classLoaderModels.add(emptyModel);
+    ClassLoaderModel fullModel =
+        new ClassLoaderModel(VERSION, new ArtifactCoordinates(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, CLASSIFIER));
+    List<Artifact> dependencies = getDependencies();
+    dependencies.get(0).setPackages(new String[] {"org.mule.dependency"});
+    dependencies.get(1).setShared(true);
+    fullModel.setDependencies(dependencies);
+    fullModel.setPackages(new String[] {"org.mule.a", "org.mule.b"});
+    fullModel.setResources(new String[] {"META-INF/a.xml", "b.properties"});
+    classLoaderModels.add(fullModel);
+
+    for (ClassLoaderModel classLoaderModel : classLoaderModels) {
+      for (boolean prettyPrinting : new boolean[] {true, false}) {
+        assertThat(ClassLoaderModelJsonSerializer.serialize(classLoaderModel, prettyPrinting))
+            .isEqualTo(treeBasedSerialization(classLoaderModel.getParametrizedUriModel(), prettyPrinting));
+      }
+    }
+  }
+
+  /**
+   * Serialization through a {@link JsonObject} tree, as it was done before the classloader model was streamed.
+   */
+  private String treeBasedSerialization(ClassLoaderModel classLoaderModel, boolean prettyPrinting) {
+    Gson treeGson = new GsonBuilder().enableComplexMapKeySerialization()
+        .registerTypeAdapter(Artifact.class, new ArtifactCustomJsonSerializer()).create();
+    JsonObject jsonObject = (JsonObject) treeGson.toJsonTree(classLoaderModel);
+    if (classLoaderModel.getPackages() == null || classLoaderModel.getPackages().length == 0) {
+      jsonObject.remove(PACKAGES_FIELD);
+    }
+    if (classLoaderModel.getResources() == null || classLoaderModel.getResources().length == 0) {
+      jsonObject.remove(RESOURCES_FIELD);
+    }
+    GsonBuilder outputGson = new GsonBuilder().enableComplexMapKeySerialization();
+    if (prettyPrinting) {
+      outputGson.setPrettyPrinting();
+    }
+    return outputGson.create().toJson(jsonObject);
+  }
+
   private List<Artifact> getDependencies() throws URISyntaxException {
     List<Artifact> artifacts = new ArrayList<>();
     for (int i = 0; i < 10; ++i) {
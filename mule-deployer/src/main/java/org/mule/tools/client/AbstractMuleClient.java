@@ -15,12 +15,14 @@ import java.util.*;
 
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
+import org.mule.tools.client.AnypointSessionCache.Session;
 import org.mule.tools.client.authentication.model.ConnectedAppCredentials;
 import org.mule.tools.client.core.AbstractClient;
 import org.mule.tools.client.arm.model.Environment;
@@ -31,6 +33,7 @@ import org.mule.tools.client.arm.model.UserInfo;
 import org.mule.tools.client.authentication.AuthenticationServiceClient;
 import org.mule.tools.client.authentication.model.AnypointCredential;
 import org.mule.tools.client.authentication.model.AnypointToken;
+import org.mule.tools.client.authentication.model.CredentialType;
 import org.mule.tools.client.authentication.model.Credentials;
 import org.mule.tools.model.anypoint.AnypointDeployment;
 import org.mule.tools.utils.DeployerLog;
@@ -60,6 +63,9 @@ public abstract class AbstractMuleClient extends AbstractClient {
   private AnypointCredential credentials;
   protected AuthenticationServiceClient authenticationServiceClient;
 
+  private AnypointSessionCache sessionCache = AnypointSessionCache.createDefault();
+  private String sessionKey;
+
   // TODO MMP-302
   private String envId;
   private String environmentName;
@@ -99,14 +105,115 @@ public abstract class AbstractMuleClient extends AbstractClient {
   }
 
   public void init() {
+    sessionKey = getSessionKey();
+    Optional<Session> session = sessionKey != null ? sessionCache.get(sessionKey) : Optional.empty();
+    if (session.isPresent()) {
+      String cachedToken = session.get().getBearerToken();
+      // A user supplied token is never cached, so for token credentials it is taken from the credentials
+      bearerToken = !isBlank(cachedToken) ? cachedToken : getBearerToken(credentials);
+      orgId = session.get().getOrgId();
+      envId = session.get().getEnvId();
+      if (isSessionValid()) {
+        return;
+      }
+      sessionCache.invalidate(sessionKey);
+      bearerToken = null;
+    }
     bearerToken = getBearerToken(credentials);
     orgId = businessGroupId != null ? businessGroupId : getOrgId();
     envId = findEnvironmentByName(environmentName).id;
+    cacheSession();
+  }
+
+  protected void setSessionCache(AnypointSessionCache sessionCache) {
+    this.sessionCache = sessionCache;
+  }
+
+  /**
+   * @return the key of the cached session, that changes with the Anypoint URI, the credentials, the business group or the
+   *         environment, or {@code null} if there are no credentials.
+   */
+  private String getSessionKey() {
+    if (credentials == null || credentials.credentialType() == null) {
+      return null;
+    }
+    switch (credentials.credentialType()) {
+      case user:
+        Credentials creds = (Credentials) credentials;
+        return getSessionKey(creds.getUsername(), creds.getPassword());
+      case connectedApp:
+        ConnectedAppCredentials connectedApp = (ConnectedAppCredentials) credentials;
+        return getSessionKey(connectedApp.getClientId(), connectedApp.getClientSecret(), connectedApp.getGrantType());
+      case token:
+        return getSessionKey(((AnypointToken) credentials).getToken());
+      default:
+        return null;
+    }
+  }
+
+  private String getSessionKey(String... credentialParts) {
+    List<String> parts = new ArrayList<>();
+    parts.add(baseUri);
+    parts.add(credentials.credentialType().name());
+    parts.addAll(Arrays.asList(credentialParts));
+    parts.add(businessGroupId);
+    parts.add(businessGroupName);
+    parts.add(environmentName);
+    return AnypointSessionCache.getKey(parts.toArray(new String[0]));
+  }
+
+  private void cacheSession() {
+    if (sessionKey != null && orgId != null && envId != null) {
+      // A token given by the user is taken again from the credentials, so it is not written to disk
+      String cachedToken = credentials.credentialType() == CredentialType.token ? null : bearerToken;
+      sessionCache.put(sessionKey, new Session(cachedToken, orgId, envId));
+    }
+  }
+
+  /**
+   * Checks the session taken from the cache with a cheap request, so a token that expired after it was cached is renewed before
+   * it is used instead of failing the deployment.
+   *
+   * @return {@code false} if Anypoint rejects the bearer token.
+   */
+  protected boolean isSessionValid() {
+    Response response = get(baseUri, ME);
+    try {
+      return response.getStatus() != Status.UNAUTHORIZED.getStatusCode();
+    } finally {
+      response.close();
+    }
+  }
+
+  /**
+   * Called when Anypoint rejects the bearer token. The cached session is discarded so it is not used again.
+   */
+  protected void onUnauthorized() {
+    if (sessionKey != null) {
+      sessionCache.invalidate(sessionKey);
+    }
+  }
+
+  @Override
+  protected void checkResponseStatus(Response response) {
+    if (response.getStatus() == Status.UNAUTHORIZED.getStatusCode()) {
+      onUnauthorized();
+    }
+    super.checkResponseStatus(response);
+  }
+
+  @Override
+  protected void checkResponseStatus(Response response, Status... expectedStatus) {
+    if (response.getStatus() == Status.UNAUTHORIZED.getStatusCode()) {
+      onUnauthorized();
+    }
+    super.checkResponseStatus(response, expectedStatus);
   }
 
   public UserInfo getMe() {
     String userInfoJsonString = get(baseUri, ME, String.class);
     if (userInfoJsonString.equalsIgnoreCase(UNAUTHORIZED)) {
+      onUnauthorized();
       throw new RuntimeException("Unauthorized Access. Please verify that authToken is valid.");
     }
     JsonObject userInfoJson = (JsonObject) JsonParser.parseString(userInfoJsonString);
@@ -326,8 +433,12 @@ public abstract class AbstractMuleClient extends AbstractClient {
   }
 
   public void renewToken() {
+    if (sessionKey != null) {
+      sessionCache.invalidate(sessionKey);
+    }
     this.bearerToken = "";
     this.bearerToken = getBearerToken(this.credentials);
+    cacheSession();
   }
 
   private String getBearerToken(AnypointCredential credentials) {
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+
+/**
+ * Cache of the Anypoint session resolved by {@link AbstractMuleClient#init()}: the bearer token, the organization id and the
+ * environment id. Entries are persisted on disk so the deployments of a reactor, or consecutive builds, do not log in and walk
+ * the organization tree again while the entry is younger than its time to live.
+ * <p>
+ * Entries are keyed by a hash of the Anypoint URI, the credentials, the business group and the environment, so no secret is
+ * written as part of a file name, and a change in any of them is a cache miss. The files are only readable by their owner when
+ * the file system supports it.
+ *
+ * @since 4.4.0
+ */
+public class AnypointSessionCache {
+
+  /**
+   * System property to override the folder where the sessions are stored.
+   */
+  public static final String CACHE_DIRECTORY_PROPERTY = "mule.anypointSessionCache.directory";
+
+  /**
+   * System property that defines how long, in milliseconds, a session is reused. A value of 0 disables the cache.
+   */
+  public static final String TTL_PROPERTY = "mule.anypointSessionCache.ttl";
+
+  private static final long DEFAULT_TTL = 30 * 60 * 1000L;
+  private static final String CACHE_ENTRY_EXTENSION = ".json";
+  private static final String CACHE_FORMAT_VERSION = "1";
+  private static final Gson GSON = new Gson();
+
+  private final File cacheDirectory;
+  private final long ttl;
+
+  /**
+   * @param cacheDirectory folder where the sessions are persisted. If null nothing is cached.
+   * @param ttl            how long, in milliseconds, a session is reused.
+   */
+  public AnypointSessionCache(File cacheDirectory, long ttl) {
+    this.cacheDirectory = ttl > 0 ? cacheDirectory : null;
+    this.ttl = ttl;
+  }
+
+  /**
+   * @return a cache that stores its sessions in the folder defined by {@link #CACHE_DIRECTORY_PROPERTY}, or
+   *         {@code ~/.m2/mule-anypoint-session-cache} if not defined, for the time defined by {@link #TTL_PROPERTY}.
+   */
+  public static AnypointSessionCache createDefault() {
+    long ttl = Long.getLong(TTL_PROPERTY, DEFAULT_TTL);
+    String cacheDirectory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+    if (cacheDirectory != null) {
+      return new AnypointSessionCache(new File(cacheDirectory), ttl);
+    }
+    return new AnypointSessionCache(new File(new File(System.getProperty("user.home"), ".m2"), "mule-anypoint-session-cache"),
+                                    ttl);
+  }
+
+  /**
+   * Computes the key of a session.
+   *
+   * @param parts the values that identify the session, e.g. the URI, the credentials and the environment. Null values are
+   *              allowed.
+   * @return the key of the session.
+   */
+  public static String getKey(String... parts) {
+    StringBuilder fingerprint = new StringBuilder(CACHE_FORMAT_VERSION);
+    for (String part : parts) {
+      fingerprint.append('|').append(part == null ? "" : part.length() + ":" + part);
+    }
+    return Hashing.sha256().hashString(fingerprint, UTF_8).toString();
+  }
+
+  public Optional<Session> get(String key) {
+    if (cacheDirectory == null) {
+      return Optional.empty();
+    }
+    Path entry = getEntry(key);
+    if (!Files.isRegularFile(entry)) {
+      return Optional.empty();
+    }
+    try (Reader reader = Files.newBufferedReader(entry, UTF_8)) {
+      Session session = GSON.fromJson(reader, Session.class);
+      if (session == null || session.orgId == null || session.envId == null
+          || System.currentTimeMillis() - session.createdAt > ttl || session.createdAt > System.currentTimeMillis()) {
+        return Optional.empty();
+      }
+      return Optional.of(session);
+    } catch (IOException | RuntimeException e) {
+      // A corrupted entry is treated as a cache miss and will be overwritten
+      return Optional.empty();
+    }
+  }
+
+  public void put(String key, Session session) {
+    if (cacheDirectory == null) {
+      return;
+    }
+    try {
+      Files.createDirectories(cacheDirectory.toPath());
+      Path entry = getEntry(key);
+      Path temporaryEntry = Files.createTempFile(cacheDirectory.toPath(), key, ".tmp");
+      try {
+        restrictToOwner(temporaryEntry);
+        try (Writer writer = Files.newBufferedWriter(temporaryEntry, UTF_8)) {
+          GSON.toJson(session, writer);
+        }
+        try {
+          Files.move(temporaryEntry, entry, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(temporaryEntry, entry, REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(temporaryEntry);
+      }
+    } catch (IOException | RuntimeException e) {
+      // The cache is an optimization, failing to persist a session must not break the deployment
+    }
+  }
+
+  public void invalidate(String key) {
+    if (cacheDirectory == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(getEntry(key));
+    } catch (IOException e) {
+      // The session will be overwritten by the next successful login
+    }
+  }
+
+  private Path getEntry(String key) {
+    return cacheDirectory.toPath().resolve(key + CACHE_ENTRY_EXTENSION);
+  }
+
+  private void restrictToOwner(Path file) throws IOException {
+    try {
+      Files.setPosixFilePermissions(file, EnumSet.of(OWNER_READ, OWNER_WRITE));
+    } catch (UnsupportedOperationException e) {
+      File asFile = file.toFile();
+      asFile.setReadable(false, false);
+      asFile.setReadable(true, true);
+      asFile.setWritable(false, false);
+      asFile.setWritable(true, true);
+    }
+  }
+
+  /**
+   * An Anypoint session.
+   */
+  public static class Session {
+
+    private String bearerToken;
+    private String orgId;
+    private String envId;
+    private long createdAt;
+
+    public Session(String bearerToken, String orgId, String envId) {
+      this.bearerToken = bearerToken;
+      this.orgId = orgId;
+      this.envId = envId;
+      this.createdAt = System.currentTimeMillis();
+    }
+
+    public String getBearerToken() {
+      return bearerToken;
+    }
+
+    public String getOrgId() {
+      return orgId;
+    }
+
+    public String getEnvId() {
+      return envId;
+    }
+  }
+}
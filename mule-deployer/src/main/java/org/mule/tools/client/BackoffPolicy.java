@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Defines how long an {@link OperationRetrier} waits between two consecutive attempts.
+ *
+ * @since 4.4.0
+ */
+public enum BackoffPolicy {
+
+  /**
+   * Always waits the same time, the maximum sleep time.
+   */
+  FIXED {
+
+    @Override
+    public long nextSleepTime(long previousSleepTime, long initialSleepTime, long maxSleepTime, Random random) {
+      return maxSleepTime;
+    }
+  },
+
+  /**
+   * Starts with the initial sleep time and doubles it on every attempt, up to the maximum sleep time.
+   */
+  EXPONENTIAL {
+
+    @Override
+    public long nextSleepTime(long previousSleepTime, long initialSleepTime, long maxSleepTime, Random random) {
+      if (previousSleepTime <= 0) {
+        return min(initialSleepTime, maxSleepTime);
+      }
+      return previousSleepTime > maxSleepTime / 2 ? maxSleepTime : previousSleepTime * 2;
+    }
+  },
+
+  /**
+   * Waits a random time between the initial sleep time and three times the previous one, up to the maximum sleep time. The
+   * randomness spreads the requests of concurrent retriers over time instead of sending them in bursts.
+   */
+  DECORRELATED_JITTER {
+
+    @Override
+    public long nextSleepTime(long previousSleepTime, long initialSleepTime, long maxSleepTime, Random random) {
+      long lowerBound = min(initialSleepTime, maxSleepTime);
+      long upperBound = min(max(previousSleepTime, lowerBound) * 3, maxSleepTime);
+      if (upperBound <= lowerBound) {
+        return lowerBound;
+      }
+      return lowerBound + (long) (random.nextDouble() * (upperBound - lowerBound));
+    }
+  };
+
+  /**
+   * Computes the time to wait before the next attempt.
+   *
+   * @param previousSleepTime the time waited before the previous attempt, or {@code 0} if this is the first wait.
+   * @param initialSleepTime  the time to wait before the first retry.
+   * @param maxSleepTime      the maximum time to wait between two attempts.
+   * @param random            source of randomness for the policies that need it.
+   * @return the time to wait, in milliseconds.
+   */
+  public abstract long nextSleepTime(long previousSleepTime, long initialSleepTime, long maxSleepTime, Random random);
+
+  /**
+   * Parses a policy name, ignoring case and accepting dashes instead of underscores, e.g. {@code decorrelated-jitter}.
+   *
+   * @param name the policy name.
+   * @return the policy.
+   * @throws IllegalArgumentException if there is no policy with the given name.
+   */
+  public static BackoffPolicy fromString(String name) {
+    return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ENGLISH));
+  }
+}
@@ -6,6 +6,8 @@
  */
 package org.mule.tools.client;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 import org.apache.commons.lang3.StringUtils;
 
@@ -19,9 +21,14 @@ public class OperationRetrier {
 
   private static final Integer DEFAULT_ATTEMPTS = 10;
   private static final Long DEFAULT_SLEEP_TIME = 30000L;
+  private static final Long DEFAULT_INITIAL_SLEEP_TIME = 1000L;
 
   private Long sleepTime;
   private Integer attempts;
+  private Long timeout;
+  private Long initialSleepTime;
+  private BackoffPolicy backoffPolicy = BackoffPolicy.FIXED;
+  private Random random;
 
   public Long getSleepTime() {
     return sleepTime == null ? DEFAULT_SLEEP_TIME : sleepTime;
@@ -45,6 +52,42 @@ public class OperationRetrier {
 
   public void setTimeout(Long timeout) {
     setSleepTime(timeout == null ? getSleepTime() : (timeout / getAttempts()));
+    this.timeout = timeout;
+  }
+
+  /**
+   * The total time a non {@link BackoffPolicy#FIXED fixed} backoff policy is allowed to wait. If no timeout was set it is the
+   * number of attempts times the sleep time, the same time a fixed policy would wait.
+   */
+  public Long getTimeout() {
+    return timeout == null ? getAttempts() * getSleepTime() : timeout;
+  }
+
+  public BackoffPolicy getBackoffPolicy() {
+    return backoffPolicy;
+  }
+
+  public void setBackoffPolicy(BackoffPolicy backoffPolicy) {
+    checkArgument(backoffPolicy != null, "Backoff policy cannot be null");
+    this.backoffPolicy = backoffPolicy;
+  }
+
+  /**
+   * The time waited before the first retry by a non {@link BackoffPolicy#FIXED fixed} backoff policy. The sleep time is the
+   * maximum time such a policy waits between two attempts.
+   */
+  public Long getInitialSleepTime() {
+    return initialSleepTime == null ? DEFAULT_INITIAL_SLEEP_TIME : initialSleepTime;
+  }
+
+  public void setInitialSleepTime(Long initialSleepTime) {
+    checkArgument(initialSleepTime != null, "Initial sleep time cannot be null");
+    checkArgument(initialSleepTime > 0, "Initial sleep time should be positive");
+    this.initialSleepTime = initialSleepTime;
+  }
+
+  void setRandom(Random random) {
+    this.random = random;
   }
 
   public interface RetriableOperation {
@@ -67,6 +110,11 @@ public class OperationRetrier {
   }
 
   public void retry(RetriableOperation operation) throws InterruptedException, TimeoutException {
+    if (getBackoffPolicy() != BackoffPolicy.FIXED) {
+      retryWithBackoff(operation);
+      return;
+    }
+
     int i = 0;
     boolean keepRunning = true;
     while (i < getAttempts() && keepRunning) {
@@ -85,4 +133,29 @@ public class OperationRetrier {
 
   }
 
+  /**
+   * Retries the operation waiting the time given by the backoff policy between attempts, until the operation succeeds or the
+   * total waited time reaches the timeout. A last attempt is always made once the timeout is reached.
+   */
+  private void retryWithBackoff(RetriableOperation operation) throws InterruptedException, TimeoutException {
+    long timeout = getTimeout();
+    long maxSleepTime = getSleepTime();
+    Random random = this.random == null ? ThreadLocalRandom.current() : this.random;
+    long waited = 0;
+    long sleep = 0;
+    int attempts = 0;
+    while (operation.run()) {
+      attempts++;
+      long remaining = timeout - waited;
+      if (remaining <= 0) {
+        throw new TimeoutException("Maximum wait time of [" + timeout + "] ms has been exceeded after [" + attempts
+            + "] attempts. " + operation.getRetryExhaustedMessage());
+      }
+      sleep = backoffPolicy.nextSleepTime(sleep, getInitialSleepTime(), maxSleepTime, random);
+      long actualSleep = Math.min(sleep, remaining);
+      Thread.sleep(actualSleep);
+      waited += actualSleep;
+    }
+  }
+
 }
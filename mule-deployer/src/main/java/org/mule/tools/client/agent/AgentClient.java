@@ -72,9 +72,12 @@ public class AgentClient extends AbstractClient {
   protected void deployArtifact(String artifactName, File file, String resourcePath) {
     Entity entity = Entity.entity(file, MediaType.APPLICATION_OCTET_STREAM_TYPE);
     Response response = put(uri, resourcePath + artifactName, entity);
-
-    if (response.getStatus() != ACCEPTED) {
-      throw new ClientException(response, uri + resourcePath + artifactName);
+    try {
+      if (response.getStatus() != ACCEPTED) {
+        throw new ClientException(response, uri + resourcePath + artifactName);
+      }
+    } finally {
+      response.close();
     }
   }
 
@@ -104,9 +107,12 @@ public class AgentClient extends AbstractClient {
    */
   protected void undeployArtifact(String artifactName, String resourcePath) {
     Response response = delete(uri, resourcePath + artifactName);
-
-    if (response.getStatus() != ACCEPTED) {
-      throw new ClientException(response, uri + resourcePath + artifactName);
+    try {
+      if (response.getStatus() != ACCEPTED) {
+        throw new ClientException(response, uri + resourcePath + artifactName);
+      }
+    } finally {
+      response.close();
     }
   }
 
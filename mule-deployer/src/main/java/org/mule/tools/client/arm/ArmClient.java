@@ -98,8 +98,12 @@ public class ArmClient extends AbstractMuleClient {
 
   public String undeployApplication(int applicationId) {
     Response response = delete(baseUri, APPLICATIONS + "/" + applicationId);
-    checkResponseStatus(response);
-    return readEntityWithTimeout(() -> response.readEntity(String.class));
+    try {
+      checkResponseStatus(response);
+      return readEntityWithTimeout(() -> response.readEntity(String.class));
+    } finally {
+      response.close();
+    }
   }
 
   public String undeployApplication(ApplicationMetadata applicationMetadata) {
@@ -190,7 +194,11 @@ public class ArmClient extends AbstractMuleClient {
 
   public void deleteServer(Integer serverId) {
     Response response = delete(baseUri, SERVERS + "/" + serverId);
-    checkResponseStatus(response);
+    try {
+      checkResponseStatus(response);
+    } finally {
+      response.close();
+    }
   }
 
   public Target findServerByName(String name) {
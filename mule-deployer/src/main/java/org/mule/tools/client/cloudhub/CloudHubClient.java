@@ -91,14 +91,17 @@ public class CloudHubClient extends AbstractMuleClient {
     checkArgument(isNotBlank(domain), "The domain must not be null nor empty.");
 
     Response response = get(baseUri, format(A_APPLICATION_PATH, domain));
+    try {
+      checkResponseStatus(response, OK, NOT_FOUND);
 
-    checkResponseStatus(response, OK, NOT_FOUND);
+      if (response.getStatus() == OK.getStatusCode()) {
+        return readJsonEntity(response, Application.class);
+      }
 
-    if (response.getStatus() == OK.getStatusCode()) {
-      return readJsonEntity(response, Application.class);
+      return null;
+    } finally {
+      response.close();
     }
-
-    return null;
   }
 
   /**
@@ -151,8 +154,11 @@ public class CloudHubClient extends AbstractMuleClient {
     checkArgument(isNotBlank(domain), "The domain must not be null nor empty.");
 
     Response response = delete(baseUri, format(A_APPLICATION_PATH, domain));
-
-    checkResponseStatus(response, OK, NO_CONTENT);
+    try {
+      checkResponseStatus(response, OK, NO_CONTENT);
+    } finally {
+      response.close();
+    }
   }
 
   /**
@@ -167,8 +173,11 @@ public class CloudHubClient extends AbstractMuleClient {
     application.setStatus("START");
 
     Response response = post(baseUri, format(APPLICATION_STATUS, domain), new Gson().toJson(application));
-
-    checkResponseStatus(response, OK, NOT_MODIFIED);
+    try {
+      checkResponseStatus(response, OK, NOT_MODIFIED);
+    } finally {
+      response.close();
+    }
   }
 
   /**
@@ -183,8 +192,11 @@ public class CloudHubClient extends AbstractMuleClient {
     application.setStatus("STOP");
 
     Response response = post(baseUri, format(APPLICATION_STATUS, domain), new Gson().toJson(application));
-
-    checkResponseStatus(response, OK, NOT_MODIFIED);
+    try {
+      checkResponseStatus(response, OK, NOT_MODIFIED);
+    } finally {
+      response.close();
+    }
   }
 
   /**
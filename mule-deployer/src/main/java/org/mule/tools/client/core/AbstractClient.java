@@ -14,9 +14,11 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.glassfish.jersey.client.ClientProperties.CHUNKED_ENCODING_SIZE;
 import static org.glassfish.jersey.client.ClientProperties.DEFAULT_CHUNK_SIZE;
+import static org.glassfish.jersey.client.ClientProperties.READ_TIMEOUT;
 import static org.glassfish.jersey.client.ClientProperties.REQUEST_ENTITY_PROCESSING;
 import static org.glassfish.jersey.client.HttpUrlConnectorProvider.SET_METHOD_WORKAROUND;
 import static org.mule.tools.client.authentication.AuthenticationServiceClient.LOGIN;
+import static org.mule.tools.client.core.logging.ClientLoggingFilter.SKIP_LOGGING;
 
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.CredentialsProvider;
@@ -32,11 +34,15 @@ import org.glassfish.jersey.client.HttpUrlConnectorProvider;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -79,9 +85,20 @@ public abstract class AbstractClient {
   protected static final String HTTP_PROXY_PORT = "http.proxyPort";
   protected static final String HTTP_PROXY_HOST = "http.proxyHost";
 
+  /**
+   * System property that defines the maximum number of threads shared by all the clients to read response entities with a
+   * timeout.
+   */
+  public static final String READ_ENTITY_THREADS_PROPERTY = "mule.client.readEntityThreads";
+
+  private static final int DEFAULT_READ_ENTITY_THREADS = 8;
+  private static final long READ_ENTITY_THREADS_KEEP_ALIVE_SECONDS = 60;
+  private static final ExecutorService READ_ENTITY_EXECUTOR = createReadEntityExecutor();
+
   private boolean isClientInitialized = false;
   private Consumer<ClientBuilder> clientBuilderConfigurer;
   private Long readEntityTimeout;
+  private Client client;
 
   public AbstractClient() {}
 
@@ -169,18 +186,34 @@ public abstract class AbstractClient {
       return supplier.get();
     }
 
-    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    // The client also has a native read timeout, so a stalled read fails on its own and never holds a thread of the executor
+    Future<T> future = READ_ENTITY_EXECUTOR.submit(supplier::get);
     try {
-      Future<T> future = executorService.submit(supplier::get);
-      T response = future.get(readEntityTimeout, TimeUnit.MILLISECONDS);
-      executorService.shutdownNow();
-      return response;
+      return future.get(readEntityTimeout, TimeUnit.MILLISECONDS);
     } catch (Exception e) {
-      executorService.shutdownNow();
+      future.cancel(true);
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Creates the executor shared by every client to read entities with a timeout. Its threads are daemon, so they never prevent
+   * the JVM from exiting, and are released after being idle for a while, so no thread is kept between builds of a Maven daemon.
+   */
+  private static ExecutorService createReadEntityExecutor() {
+    int threads = Math.max(1, Integer.getInteger(READ_ENTITY_THREADS_PROPERTY, DEFAULT_READ_ENTITY_THREADS));
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "mule-client-read-entity-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, READ_ENTITY_THREADS_KEEP_ALIVE_SECONDS,
+                                                         TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   public synchronized void initialize() {
     if (!isClientInitialized) {
       isClientInitialized = true;
@@ -194,22 +227,51 @@ public abstract class AbstractClient {
     WebTarget target = getTarget(uri, path);
     Invocation.Builder builder = target.request(APPLICATION_JSON_TYPE).header(USER_AGENT, getUserAgent());
     setBuilderProperties(builder);
+    if (isLoginRequest(path)) {
+      builder.property(SKIP_LOGGING, true);
+    }
     configureRequest(builder);
     return builder;
   }
 
-  public void setClientBuilderConfigurer(Consumer<ClientBuilder> clientBuilderConfigurer) {
+  public synchronized void setClientBuilderConfigurer(Consumer<ClientBuilder> clientBuilderConfigurer) {
     this.clientBuilderConfigurer = clientBuilderConfigurer;
+    close();
   }
 
-  public void setReadEntityTimeout(Long readEntityTimeout) {
-    this.readEntityTimeout = readEntityTimeout;
+  public synchronized void setReadEntityTimeout(Long readEntityTimeout) {
+    if (!Objects.equals(this.readEntityTimeout, readEntityTimeout)) {
+      this.readEntityTimeout = readEntityTimeout;
+      // The read timeout is a property of the client, so it is built again with the new one
+      close();
+    }
   }
 
   protected WebTarget getTarget(String uri, String path) {
+    return getClient().target(uri).path(path);
+  }
+
+  /**
+   * Returns the JAX-RS client used by this instance, building it on first use. The client (and the connection pool of its
+   * connector) is reused by every request issued through this instance so keep-alive connections and TLS sessions are shared
+   * across calls.
+   *
+   * @return the client used to issue requests.
+   */
+  protected synchronized Client getClient() {
+    if (client == null) {
+      client = buildClient();
+    }
+    return client;
+  }
+
+  private Client buildClient() {
     ClientConfig configuration = new ClientConfig();
     String connector = System.getProperty(CONNECTOR_PROVIDER_PROPERTY, APACHE_5);
     setProxyProperties(connector, configuration);
+    if (readEntityTimeout != null && readEntityTimeout > 0) {
+      configuration.property(READ_TIMEOUT, (int) Math.min(readEntityTimeout, Integer.MAX_VALUE));
+    }
     switch (connector) {
       case JDK:
         configuration.connectorProvider(new JdkConnectorProvider());
@@ -224,12 +286,21 @@ public abstract class AbstractClient {
     ClientBuilder builder = ClientBuilder.newBuilder().withConfig(configuration);
     Optional.ofNullable(clientBuilderConfigurer).ifPresent(configurer -> configurer.accept(builder));
     configureSecurityContext(builder);
-    Client client = builder.build().register(MultiPartFeature.class);
-    if (log != null && log.isDebugEnabled() && !isLoginRequest(path)) {
-      client.register(new ClientLoggingFilter(log));
+    Client newClient = builder.build().register(MultiPartFeature.class);
+    if (log != null && log.isDebugEnabled()) {
+      newClient.register(new ClientLoggingFilter(log));
     }
+    return newClient;
+  }
 
-    return client.target(uri).path(path);
+  /**
+   * Releases the client and its pooled connections. A new client is built if this instance issues further requests.
+   */
+  public synchronized void close() {
+    if (client != null) {
+      client.close();
+      client = null;
+    }
   }
 
   protected void setProxyProperties(String connector, ClientConfig configuration) {
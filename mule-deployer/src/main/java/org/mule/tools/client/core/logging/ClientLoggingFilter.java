@@ -35,6 +35,11 @@ public class ClientLoggingFilter implements ClientRequestFilter, ClientResponseF
 
   public static final String CLIENT_LOGGING_LOG_MULTIPART = "client.logging.log.multipart";
 
+  /**
+   * Request property used to disable logging for a single request (e.g. requests carrying credentials).
+   */
+  public static final String SKIP_LOGGING = "client.logging.skip";
+
   private static final String REQUEST_LOGGING_STREAM = "requestLoggingStream";
 
   private final DeployerLog log;
@@ -45,6 +50,10 @@ public class ClientLoggingFilter implements ClientRequestFilter, ClientResponseF
 
   @Override
   public void filter(ClientRequestContext context) {
+    if (isLoggingSkipped(context)) {
+      return;
+    }
+
     StringBuilder request = new StringBuilder();
 
     request
@@ -68,6 +77,10 @@ public class ClientLoggingFilter implements ClientRequestFilter, ClientResponseF
 
   @Override
   public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) throws IOException {
+    if (isLoggingSkipped(requestContext)) {
+      return;
+    }
+
     StringBuilder response = new StringBuilder();
 
     response
@@ -107,6 +120,10 @@ public class ClientLoggingFilter implements ClientRequestFilter, ClientResponseF
     builder.append(format("%n"));
   }
 
+  private boolean isLoggingSkipped(ClientRequestContext context) {
+    return Boolean.TRUE.equals(context.getProperty(SKIP_LOGGING));
+  }
+
   private boolean shouldLogEntity(Type entityType) {
     if (!entityType.getTypeName().contains("FormDataMultiPart")) {
       return true;
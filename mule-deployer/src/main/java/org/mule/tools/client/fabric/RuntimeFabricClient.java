@@ -97,8 +97,12 @@ public class RuntimeFabricClient extends AbstractMuleClient {
    */
   public DeploymentDetailedResponse deleteDeployment(String deploymentId) {
     Response response = delete(baseUri, getDeploymentPathSupplier(deploymentId));
-    checkResponseStatus(response, NO_CONTENT);
-    return readEntityWithTimeout(() -> response.readEntity(DeploymentDetailedResponse.class));
+    try {
+      checkResponseStatus(response, NO_CONTENT);
+      return readEntityWithTimeout(() -> response.readEntity(DeploymentDetailedResponse.class));
+    } finally {
+      response.close();
+    }
   }
 
 
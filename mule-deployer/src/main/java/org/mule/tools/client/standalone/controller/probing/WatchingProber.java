@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client.standalone.controller.probing;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * A {@link Prober} that checks the {@link Probe} again as soon as something changes in the watched directories, e.g. when the
+ * runtime creates the anchor file of a deployed artifact, instead of waiting for the next polling interval.
+ * <p>
+ * The probe is still checked every polling interval even if no change is notified, as some file systems (network mounts, or
+ * platforms where the {@link WatchService} is implemented by polling) deliver the events late or not at all. If the directories
+ * cannot be watched it behaves as a {@link PollingProber}.
+ */
+public class WatchingProber implements Prober {
+
+  private static final long DEFAULT_TIMEOUT = 1000;
+  private static final long DEFAULT_POLLING_INTERVAL = 100;
+
+  private final long timeoutMillis;
+  private final long pollDelayMillis;
+  private final File[] directories;
+
+  public WatchingProber(Long timeoutMillis, Long pollDelayMillis, File... directories) {
+    this.timeoutMillis = timeoutMillis == null ? DEFAULT_TIMEOUT : timeoutMillis;
+    this.pollDelayMillis = pollDelayMillis == null ? DEFAULT_POLLING_INTERVAL : pollDelayMillis;
+    this.directories = directories;
+  }
+
+  @Override
+  public void check(Probe probe) {
+    WatchService watchService = createWatchService();
+    if (watchService == null) {
+      new PollingProber(timeoutMillis, pollDelayMillis).check(probe);
+      return;
+    }
+    try {
+      if (!watch(probe, watchService)) {
+        throw new AssertionError(probe.describeFailure());
+      }
+    } finally {
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        // Nothing to do, the watch service is not used anymore
+      }
+    }
+  }
+
+  private boolean watch(Probe probe, WatchService watchService) {
+    Timeout timeout = new Timeout(timeoutMillis);
+
+    while (true) {
+      if (probe.isSatisfied()) {
+        return true;
+      } else if (timeout.hasTimedOut()) {
+        return false;
+      } else {
+        waitForChanges(watchService);
+      }
+    }
+  }
+
+  private void waitForChanges(WatchService watchService) {
+    try {
+      WatchKey key = watchService.poll(pollDelayMillis, MILLISECONDS);
+      while (key != null) {
+        key.pollEvents();
+        key.reset();
+        key = watchService.poll();
+      }
+    } catch (ClosedWatchServiceException e) {
+      throw new IllegalStateException("unexpected close of the watch service", e);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException("unexpected interrupt", e);
+    }
+  }
+
+  /**
+   * @return a watch service registered on the existing directories, or {@code null} if none of them can be watched.
+   */
+  private WatchService createWatchService() {
+    WatchService watchService;
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+    } catch (IOException | UnsupportedOperationException e) {
+      return null;
+    }
+    boolean registered = false;
+    for (File directory : directories) {
+      if (directory.isDirectory()) {
+        try {
+          directory.toPath().register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+          registered = true;
+        } catch (IOException | UnsupportedOperationException e) {
+          // The directory is still checked by the probe every polling interval
+        }
+      }
+    }
+    if (!registered) {
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        // Nothing to do, polling is used instead
+      }
+      return null;
+    }
+    return watchService;
+  }
+}
@@ -12,6 +12,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.mule.tools.client.standalone.controller.MuleProcessController;
 import org.mule.tools.client.standalone.controller.probing.PollingProber;
 import org.mule.tools.client.standalone.controller.probing.Prober;
+import org.mule.tools.client.standalone.controller.probing.WatchingProber;
 import org.mule.tools.client.standalone.controller.probing.deployment.DeploymentProbe;
 import org.mule.tools.client.core.exception.DeploymentException;
 import org.mule.tools.client.standalone.exception.MuleControllerException;
@@ -33,6 +34,12 @@ import static org.mule.tools.client.standalone.controller.probing.deployment.Dep
  */
 public class StandaloneArtifactDeployer implements ArtifactDeployer {
 
+  /**
+   * System property that defines if the deployment is detected by watching the apps and domains directories of the runtime. When
+   * set to {@code false} they are only polled.
+   */
+  public static final String WATCH_DEPLOYMENTS_PROPERTY = "mule.standalone.watchDeployments";
+
   private static final Long DEFAULT_STANDALONE_DEPLOYMENT_TIMEOUT = 60000L;
   private final StandaloneDeployment deployment;
   private final DeployerLog log;
@@ -63,13 +70,20 @@ public class StandaloneArtifactDeployer implements ArtifactDeployer {
   /**
    * Retrieves a prober that timeouts after the deployment timeout specified in the deployment configuration. If the timeout was
    * not specified, it is as {@code DEFAULT_POLLING_DELAY}.
+   * <p>
+   * Unless {@value #WATCH_DEPLOYMENTS_PROPERTY} is {@code false}, the prober checks again as soon as the apps or domains
+   * directories of the runtime change, still polling every {@code DEFAULT_POLLING_DELAY} in case a change is not notified.
    * 
    * @param deployment The standalone deployment
-   * @return A {@link PollingProber} instance
+   * @return A {@link WatchingProber} or a {@link PollingProber} instance
    */
   private static Prober getProber(Deployment deployment) {
-    return new PollingProber(deployment.getDeploymentTimeout()
-        .orElse(DEFAULT_STANDALONE_DEPLOYMENT_TIMEOUT), DEFAULT_POLLING_DELAY);
+    Long timeout = deployment.getDeploymentTimeout().orElse(DEFAULT_STANDALONE_DEPLOYMENT_TIMEOUT);
+    if (Boolean.parseBoolean(System.getProperty(WATCH_DEPLOYMENTS_PROPERTY, "true"))) {
+      File muleHome = ((StandaloneDeployment) deployment).getMuleHome();
+      return new WatchingProber(timeout, DEFAULT_POLLING_DELAY, new File(muleHome, "apps"), new File(muleHome, "domains"));
+    }
+    return new PollingProber(timeout, DEFAULT_POLLING_DELAY);
   }
 
   /**
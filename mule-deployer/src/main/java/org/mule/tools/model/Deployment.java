@@ -8,6 +8,7 @@ package org.mule.tools.model;
 
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.mule.tools.client.BackoffPolicy;
 import org.mule.tools.client.core.exception.DeploymentException;
 
 import java.io.File;
@@ -46,6 +47,13 @@ public abstract class Deployment {
   @Parameter
   protected Long deploymentTimeout;
 
+  /**
+   * How the time between two checks of the deployment status grows while waiting for the artifact to be deployed: FIXED,
+   * EXPONENTIAL or DECORRELATED_JITTER. Defaults to FIXED.
+   */
+  @Parameter
+  protected BackoffPolicy deploymentBackoff;
+
   @Parameter
   protected Long readResponseTimeout;
 
@@ -126,6 +134,19 @@ public abstract class Deployment {
     this.deploymentTimeout = deploymentTimeout;
   }
 
+  /**
+   * Backoff policy used to check the deployment status.
+   *
+   * @since 4.4.0
+   */
+  public Optional<BackoffPolicy> getDeploymentBackoff() {
+    return Optional.ofNullable(deploymentBackoff);
+  }
+
+  public void setDeploymentBackoff(BackoffPolicy deploymentBackoff) {
+    this.deploymentBackoff = deploymentBackoff;
+  }
+
   public void setDefaultValues(MavenProject project) throws DeploymentException {
     setBasicDeploymentValues(project);
     setEnvironmentSpecificValues();
@@ -177,6 +198,16 @@ public abstract class Deployment {
       setDeploymentTimeout(Long.valueOf(deploymentTimeout));
     }
 
+    String deploymentBackoff = getProperty("mule.deploymentConfiguration.backoff");
+    if (isNotBlank(deploymentBackoff)) {
+      try {
+        setDeploymentBackoff(BackoffPolicy.fromString(deploymentBackoff));
+      } catch (IllegalArgumentException e) {
+        throw new DeploymentException("Invalid deployment backoff policy [" + deploymentBackoff
+            + "], it should be one of FIXED, EXPONENTIAL or DECORRELATED_JITTER", e);
+      }
+    }
+
     setArtifactId(project.getArtifactId());
     setGroupId(project.getGroupId());
     setVersion(project.getVersion());
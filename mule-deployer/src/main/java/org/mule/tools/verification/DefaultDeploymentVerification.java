@@ -38,6 +38,7 @@ public class DefaultDeploymentVerification implements DeploymentVerification {
   @Override
   public void assertDeployment(Deployment deployment) throws DeploymentException {
     deployment.getDeploymentTimeout().ifPresent(retrier::setTimeout);
+    deployment.getDeploymentBackoff().ifPresent(retrier::setBackoffPolicy);
     try {
       retrier.retry(() -> !isDeployed.test(deployment));
     } catch (InterruptedException | TimeoutException e) {
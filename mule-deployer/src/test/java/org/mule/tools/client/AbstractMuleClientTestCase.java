@@ -13,7 +13,9 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
@@ -21,6 +23,7 @@ import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockserver.integration.ClientAndServer;
 import org.mule.tools.client.arm.ArmClient;
 import org.mule.tools.client.arm.model.AuthorizationResponse;
@@ -35,6 +38,8 @@ import com.google.common.net.HttpHeaders;
 import com.google.common.net.MediaType;
 import com.google.gson.Gson;
 
+import java.io.File;
+
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.client.Invocation;
 
@@ -166,6 +171,67 @@ class AbstractMuleClientTestCase {
     verify(builder).header("x-anypoint-session-extend", true);
   }
 
+  @Test
+  void initReusesCachedSession(@TempDir File cacheDirectory) {
+    AnypointSessionCache sessionCache = new AnypointSessionCache(cacheDirectory, 60000L);
+
+    ArmDeployment armDeployment = new ArmDeployment();
+    armDeployment.setUri(BASE_URI);
+    armDeployment.setAuthToken("dummyToken");
+    armDeployment.setEnvironment("dummyEnv");
+    armDeployment.setBusinessGroupId("dummyGroupId");
+    armDeployment.setArmInsecure(false);
+
+    Environment environment = new Environment();
+    environment.id = "dummyEnvId";
+    AbstractMuleClient client = spy(new ArmClient(armDeployment, null));
+    client.setSessionCache(sessionCache);
+    doReturn(environment).when(client).findEnvironmentByName("dummyEnv");
+    client.init();
+
+    AbstractMuleClient cachedClient = spy(new ArmClient(armDeployment, null));
+    cachedClient.setSessionCache(sessionCache);
+    doReturn(true).when(cachedClient).isSessionValid();
+    cachedClient.init();
+
+    verify(cachedClient, never()).findEnvironmentByName(any());
+    assertThat(cachedClient.getEnvId()).isEqualTo("dummyEnvId");
+    Invocation.Builder builder = mock(Invocation.Builder.class);
+    cachedClient.configureRequest(builder);
+    verify(builder).header(AuthenticationServiceClient.AUTHORIZATION_HEADER, "bearer dummyToken");
+    verify(builder).header("X-ANYPNT-ORG-ID", "dummyGroupId");
+  }
+
+  @Test
+  void initDiscardsRejectedCachedSession(@TempDir File cacheDirectory) {
+    AnypointSessionCache sessionCache = new AnypointSessionCache(cacheDirectory, 60000L);
+
+    ArmDeployment armDeployment = new ArmDeployment();
+    armDeployment.setUri(BASE_URI);
+    armDeployment.setAuthToken("dummyToken");
+    armDeployment.setEnvironment("dummyEnv");
+    armDeployment.setBusinessGroupId("dummyGroupId");
+    armDeployment.setArmInsecure(false);
+
+    Environment environment = new Environment();
+    environment.id = "dummyEnvId";
+    AbstractMuleClient client = spy(new ArmClient(armDeployment, null));
+    client.setSessionCache(sessionCache);
+    doReturn(environment).when(client).findEnvironmentByName("dummyEnv");
+    client.init();
+
+    Environment newEnvironment = new Environment();
+    newEnvironment.id = "newEnvId";
+    AbstractMuleClient cachedClient = spy(new ArmClient(armDeployment, null));
+    cachedClient.setSessionCache(sessionCache);
+    doReturn(false).when(cachedClient).isSessionValid();
+    doReturn(newEnvironment).when(cachedClient).findEnvironmentByName("dummyEnv");
+    cachedClient.init();
+
+    verify(cachedClient).findEnvironmentByName("dummyEnv");
+    assertThat(cachedClient.getEnvId()).isEqualTo("newEnvId");
+  }
+
   @Test
   void renewToken() {
     mockServer = startClientAndServer(DEFAULT_PORT);
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.mule.tools.client.AnypointSessionCache.Session;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AnypointSessionCacheTest {
+
+  private static final String KEY = AnypointSessionCache.getKey("https://anypoint.mulesoft.com", "user", "password");
+
+  @TempDir
+  public File temporaryFolder;
+
+  @Test
+  void storedSessionIsReused() {
+    AnypointSessionCache cache = new AnypointSessionCache(temporaryFolder, 60000L);
+    cache.put(KEY, new Session("token", "orgId", "envId"));
+
+    Optional<Session> session = new AnypointSessionCache(temporaryFolder, 60000L).get(KEY);
+
+    assertThat(session).isPresent();
+    assertThat(session.get().getBearerToken()).isEqualTo("token");
+    assertThat(session.get().getOrgId()).isEqualTo("orgId");
+    assertThat(session.get().getEnvId()).isEqualTo("envId");
+  }
+
+  @Test
+  void expiredSessionIsNotReused() throws InterruptedException {
+    AnypointSessionCache cache = new AnypointSessionCache(temporaryFolder, 1L);
+    cache.put(KEY, new Session("token", "orgId", "envId"));
+    Thread.sleep(10);
+
+    assertThat(cache.get(KEY)).isEmpty();
+  }
+
+  @Test
+  void invalidatedSessionIsNotReused() {
+    AnypointSessionCache cache = new AnypointSessionCache(temporaryFolder, 60000L);
+    cache.put(KEY, new Session("token", "orgId", "envId"));
+    cache.invalidate(KEY);
+
+    assertThat(cache.get(KEY)).isEmpty();
+  }
+
+  @Test
+  void corruptedSessionIsNotReused() throws IOException {
+    AnypointSessionCache cache = new AnypointSessionCache(temporaryFolder, 60000L);
+    Files.write(new File(temporaryFolder, KEY + ".json").toPath(), "{corrupted".getBytes(UTF_8));
+
+    assertThat(cache.get(KEY)).isEmpty();
+  }
+
+  @Test
+  void nothingIsCachedWithoutTtl() {
+    AnypointSessionCache cache = new AnypointSessionCache(temporaryFolder, 0L);
+    cache.put(KEY, new Session("token", "orgId", "envId"));
+
+    assertThat(temporaryFolder.list()).isEmpty();
+    assertThat(cache.get(KEY)).isEmpty();
+  }
+
+  @Test
+  void keyDependsOnEveryPart() {
+    assertThat(AnypointSessionCache.getKey("a", "bc")).isNotEqualTo(AnypointSessionCache.getKey("ab", "c"));
+    assertThat(AnypointSessionCache.getKey("a", null)).isNotEqualTo(AnypointSessionCache.getKey("a", ""));
+    assertThat(KEY).doesNotContain("password");
+  }
+}
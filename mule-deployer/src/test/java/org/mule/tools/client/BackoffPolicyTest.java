@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mule.tools.client.BackoffPolicy.DECORRELATED_JITTER;
+import static org.mule.tools.client.BackoffPolicy.EXPONENTIAL;
+import static org.mule.tools.client.BackoffPolicy.FIXED;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BackoffPolicyTest {
+
+  private final Random random = new Random(0);
+
+  @Test
+  void fixedAlwaysWaitsMaxSleepTime() {
+    assertThat(FIXED.nextSleepTime(0, 1000, 30000, random)).isEqualTo(30000);
+    assertThat(FIXED.nextSleepTime(30000, 1000, 30000, random)).isEqualTo(30000);
+  }
+
+  @Test
+  void exponentialDoublesUpToMaxSleepTime() {
+    long sleep = 0;
+    long[] expected = {1000, 2000, 4000, 8000, 16000, 30000, 30000};
+    for (long expectedSleep : expected) {
+      sleep = EXPONENTIAL.nextSleepTime(sleep, 1000, 30000, random);
+      assertThat(sleep).isEqualTo(expectedSleep);
+    }
+  }
+
+  @Test
+  void decorrelatedJitterStaysWithinBounds() {
+    long sleep = 0;
+    for (int i = 0; i < 100; i++) {
+      long previous = Math.max(sleep, 1000);
+      sleep = DECORRELATED_JITTER.nextSleepTime(sleep, 1000, 30000, random);
+      assertThat(sleep).isBetween(1000L, Math.min(previous * 3, 30000));
+    }
+  }
+
+  @Test
+  void initialSleepTimeIsCappedByMaxSleepTime() {
+    assertThat(EXPONENTIAL.nextSleepTime(0, 5000, 2000, random)).isEqualTo(2000);
+    assertThat(DECORRELATED_JITTER.nextSleepTime(0, 5000, 2000, random)).isEqualTo(2000);
+  }
+
+  @Test
+  void fromString() {
+    assertThat(BackoffPolicy.fromString("decorrelated-jitter")).isEqualTo(DECORRELATED_JITTER);
+    assertThat(BackoffPolicy.fromString(" Exponential ")).isEqualTo(EXPONENTIAL);
+    assertThatThrownBy(() -> BackoffPolicy.fromString("linear")).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -6,6 +6,7 @@
  */
 package org.mule.tools.client;
 
+import java.util.Random;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
@@ -73,6 +74,37 @@ class OperationRetrierTest {
     assertThat(retriableOperation.getCount()).isEqualTo(2);
   }
 
+  @Test
+  void exponentialBackoffIsBoundedByTimeout() {
+    OperationRetrier operationRetrier = new OperationRetrier();
+    operationRetrier.setBackoffPolicy(BackoffPolicy.EXPONENTIAL);
+    operationRetrier.setAttempts(1);
+    operationRetrier.setInitialSleepTime(1L);
+    operationRetrier.setTimeout(20L);
+
+    CounterRetriableOperation retriableOperation = new CounterRetriableOperation(Integer.MAX_VALUE);
+
+    assertThatThrownBy(() -> operationRetrier.retry(retriableOperation)).isExactlyInstanceOf(TimeoutException.class)
+        .hasMessageContaining("[20] ms");
+    // Waits 1, 2, 4, 8 and the remaining 5 ms, then makes a last attempt
+    assertThat(retriableOperation.getCount()).isEqualTo(6);
+  }
+
+  @Test
+  void backoffRetriesUntilSucceed() throws TimeoutException, InterruptedException {
+    OperationRetrier operationRetrier = new OperationRetrier();
+    operationRetrier.setBackoffPolicy(BackoffPolicy.DECORRELATED_JITTER);
+    operationRetrier.setRandom(new Random(0));
+    operationRetrier.setInitialSleepTime(1L);
+    operationRetrier.setSleepTime(5L);
+
+    CounterRetriableOperation retriableOperation = new CounterRetriableOperation(Integer.MAX_VALUE);
+    retriableOperation.setSuccedAt(15);
+
+    operationRetrier.retry(retriableOperation);
+    assertThat(retriableOperation.getCount()).isEqualTo(15);
+  }
+
   static class CounterRetriableOperation implements RetriableOperation {
 
     private Integer count = 0;
@@ -7,11 +7,19 @@
 package org.mule.tools.client.agent;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+
+import com.sun.net.httpserver.HttpServer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mule.tools.model.agent.AgentDeployment;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -51,4 +59,30 @@ class AgentClientTestCase {
     agentClientSpy.undeployApplication(APP_NAME);
     verify(agentClientSpy, times(1)).undeployArtifact(APP_NAME, APPLICATIONS_PATH);
   }
+
+  @Test
+  void undeployReleasesPooledConnections() throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(APPLICATIONS_PATH, exchange -> {
+      byte[] body = "{\"status\":\"accepted\"}".getBytes(UTF_8);
+      exchange.sendResponseHeaders(202, body.length);
+      try (OutputStream output = exchange.getResponseBody()) {
+        output.write(body);
+      }
+    });
+    server.start();
+    try {
+      when(deploymentMock.getUri()).thenReturn("http://localhost:" + server.getAddress().getPort());
+      AgentClient client = new AgentClient(null, deploymentMock);
+      // More calls than connections per route in the pool, a leased connection would block the following ones
+      assertTimeoutPreemptively(ofSeconds(30), () -> {
+        for (int i = 0; i < 20; i++) {
+          client.undeployApplication(APP_NAME);
+        }
+      });
+      client.close();
+    } finally {
+      server.stop(0);
+    }
+  }
 }
@@ -6,13 +6,23 @@
  */
 package org.mule.tools.client.core;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import javax.ws.rs.client.Client;
+
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.HttpUrlConnectorProvider;
 import org.glassfish.jersey.jdk.connector.JdkConnectorProvider;
 import org.glassfish.jersey.apache5.connector.Apache5ConnectorProvider;
 import org.junit.jupiter.api.Test;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.glassfish.jersey.client.ClientProperties.READ_TIMEOUT;
 import static org.mule.tools.client.core.AbstractClient.*;
 
 
@@ -66,4 +76,59 @@ class AbstractClientTest {
     assertThat(((ClientConfig) client.getTarget("", "").getConfiguration()).getConnectorProvider().getClass())
         .isEqualTo(Apache5ConnectorProvider.class);
   }
+
+  @Test
+  void clientIsReusedAcrossTargets() {
+    AbstractClient client = new TesteableClient();
+    assertThat(client.getClient()).isSameAs(client.getClient());
+  }
+
+  @Test
+  void clientIsRebuiltAfterClose() {
+    AbstractClient client = new TesteableClient();
+    Client first = client.getClient();
+    client.close();
+    assertThat(client.getClient()).isNotSameAs(first);
+  }
+
+  @Test
+  void readEntityWithTimeoutReusesThreads() {
+    AbstractClient client = new TesteableClient();
+    client.setReadEntityTimeout(10000L);
+    Set<Thread> threads = new HashSet<>();
+    for (int i = 0; i < 50; i++) {
+      threads.add(client.readEntityWithTimeout(Thread::currentThread));
+    }
+    assertThat(threads).doesNotContain(Thread.currentThread()).hasSizeLessThanOrEqualTo(8)
+        .allMatch(Thread::isDaemon);
+  }
+
+  @Test
+  void readEntityWithTimeoutInterruptsSlowReads() throws InterruptedException {
+    AbstractClient client = new TesteableClient();
+    client.setReadEntityTimeout(50L);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    assertThatThrownBy(() -> client.readEntityWithTimeout(() -> {
+      try {
+        Thread.sleep(10000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return null;
+    })).isExactlyInstanceOf(RuntimeException.class).hasCauseInstanceOf(TimeoutException.class);
+    assertThat(interrupted.await(5, SECONDS)).isTrue();
+  }
+
+  @Test
+  void readEntityTimeoutIsSetAsClientReadTimeout() {
+    AbstractClient client = new TesteableClient();
+    assertThat(client.getClient().getConfiguration().getProperty(READ_TIMEOUT)).isNull();
+
+    client.setReadEntityTimeout(5000L);
+    Client withTimeout = client.getClient();
+    assertThat(withTimeout.getConfiguration().getProperty(READ_TIMEOUT)).isEqualTo(5000);
+
+    client.setReadEntityTimeout(5000L);
+    assertThat(client.getClient()).isSameAs(withTimeout);
+  }
 }
@@ -63,6 +63,16 @@ class ClientLoggingFilterTest {
     verify(log).debug(contains("HTTP Request"));
   }
 
+  @Test
+  void filterRequestLoggingSkippedTest() throws IOException {
+    when(requestContext.getProperty(ClientLoggingFilter.SKIP_LOGGING)).thenReturn(true);
+
+    filter.filter(requestContext);
+    filter.filter(requestContext, responseContext);
+
+    verifyNoInteractions(log);
+  }
+
   @Test
   void filterResponseLoggingTest() throws IOException {
 
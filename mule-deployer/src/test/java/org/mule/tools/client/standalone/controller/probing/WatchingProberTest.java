@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client.standalone.controller.probing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WatchingProberTest {
+
+  private static final long LONG_POLLING_DELAY = 60000L;
+
+  @TempDir
+  public File temporaryFolder;
+
+  @Test
+  void checksAgainWhenDirectoryChanges() {
+    File anchor = new File(temporaryFolder, "app-anchor.txt");
+    CompletableFuture<Void> deployment = CompletableFuture.runAsync(() -> {
+      try {
+        Thread.sleep(200);
+        anchor.createNewFile();
+      } catch (InterruptedException | IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    long start = System.currentTimeMillis();
+    new WatchingProber(LONG_POLLING_DELAY, LONG_POLLING_DELAY, temporaryFolder).check(existsProbe(anchor));
+
+    assertThat(System.currentTimeMillis() - start).isLessThan(LONG_POLLING_DELAY);
+    deployment.join();
+  }
+
+  @Test
+  void fallsBackToPollingWhenDirectoryCannotBeWatched() {
+    AtomicInteger checks = new AtomicInteger();
+    Probe probe = new Probe() {
+
+      @Override
+      public boolean isSatisfied() {
+        return checks.incrementAndGet() == 3;
+      }
+
+      @Override
+      public String describeFailure() {
+        return "Not satisfied";
+      }
+    };
+
+    new WatchingProber(10000L, 10L, new File(temporaryFolder, "missing")).check(probe);
+
+    assertThat(checks.get()).isEqualTo(3);
+  }
+
+  @Test
+  void failsAfterTimeout() {
+    File anchor = new File(temporaryFolder, "app-anchor.txt");
+
+    assertThatThrownBy(() -> new WatchingProber(100L, 10L, temporaryFolder).check(existsProbe(anchor)))
+        .isExactlyInstanceOf(AssertionError.class).hasMessage("Anchor does not exist");
+  }
+
+  private Probe existsProbe(File anchor) {
+    return new Probe() {
+
+      @Override
+      public boolean isSatisfied() {
+        return anchor.exists();
+      }
+
+      @Override
+      public String describeFailure() {
+        return "Anchor does not exist";
+      }
+    };
+  }
+}
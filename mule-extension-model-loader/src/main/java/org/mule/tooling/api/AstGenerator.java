@@ -28,24 +28,45 @@ import org.mule.runtime.config.api.properties.ConfigurationPropertiesHierarchyBu
 import org.mule.runtime.config.api.properties.ConfigurationPropertiesResolver;
 import org.mule.tooling.internal.PluginResources;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.model.Dependency;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 
 public class AstGenerator {
 
+  /**
+   * System property that defines how many dependencies are resolved concurrently, loading the extension models of the mule
+   * plugins. Defaults to 1, which resolves them sequentially.
+   * <p>
+   * Loading concurrently is opt-in. Each plugin is loaded in its own temporary application, with its own folder and class
+   * loader, and the state shared between loads (the container class loader and the extension model cache) is created under a
+   * lock or kept in concurrent maps. The runtime does not document its extension model loaders as thread safe though, so a
+   * plugin whose loader relies on global state may fail when loaded concurrently.
+   */
+  public static final String LOAD_THREADS_PROPERTY = "mule.astGenerator.loadThreads";
+
   AstXmlParser xmlParser;
   Set<String> dwlFiles = new HashSet<String>();
 
@@ -60,19 +81,28 @@ public class AstGenerator {
                       Set<Artifact> allDependencies, Path workingDir, ClassRealm classRealm,
                       List<Dependency> directDependencies, Boolean asApplication, String classifier) {
     ClassLoader classloader = AstGenerator.class.getClassLoader();
-    ExtensionModelLoader loader = ExtensionModelLoaderFactory.createLoader(mavenClient, workingDir, classloader, runtimeVersion);
-    Set<ExtensionModel> extensionModels = new HashSet<>();
 
-    ArrayList<URL> dependenciesURL = new ArrayList<>();
-    for (Dependency dependency : directDependencies) {
-      removeExtModelIfExists(extensionModels, dependency);
-      processDependency(dependency, classloader, mavenClient, runtimeVersion, workingDir, extensionModels, dependenciesURL,
-                        loader,dwlFiles);
-    }
+    List<Dependency> dependencies = new ArrayList<>(directDependencies);
     allDependencies.stream().map(this::createDependency)
         .filter(dependency -> !directDependencies.contains(dependency))
-        .forEach(dependency -> processDependency(dependency, classloader, mavenClient, runtimeVersion, workingDir,
-                                                 extensionModels, dependenciesURL, loader, dwlFiles));
+        .forEach(dependencies::add);
+    List<DependencyResources> dependenciesResources;
+    Set<ExtensionModel> runtimeExtensionModels;
+    try (ExtensionModelLoader loader =
+        ExtensionModelLoaderFactory.createLoader(mavenClient, workingDir, classloader, runtimeVersion)) {
+      dependenciesResources = resolveDependencies(dependencies, mavenClient, loader);
+      runtimeExtensionModels = loader.getRuntimeExtensionModels();
+    }
+
+    // Merged in the same order the dependencies were declared, regardless of which one was loaded first
+    Set<ExtensionModel> extensionModels = new LinkedHashSet<>();
+    ArrayList<URL> dependenciesURL = new ArrayList<>();
+    for (int i = 0; i < dependencies.size(); i++) {
+      if (i < directDependencies.size()) {
+        removeExtModelIfExists(extensionModels, dependencies.get(i));
+      }
+      dependenciesResources.get(i).addTo(extensionModels, dependenciesURL, dwlFiles);
+    }
     dependenciesURL.forEach(url -> {
       try {
         classRealm.addURL(url);
@@ -81,7 +111,6 @@ public class AstGenerator {
         e1.printStackTrace();
       }
     });
-    Set<ExtensionModel> runtimeExtensionModels = loader.getRuntimeExtensionModels();
     extensionModels.addAll(runtimeExtensionModels);
     AstXmlParser.Builder builder = new AstXmlParser.Builder();
     ConfigurationPropertiesHierarchyBuilder emptyPropertyResolverBuilder = new ConfigurationPropertiesHierarchyBuilder();
@@ -140,43 +169,124 @@ public class AstGenerator {
   }
 
   public ArtifactAst generateAST(String artifactName, List<String> configs, Path configsPath) throws FileNotFoundException {
+    // All the configs are parsed at once, as they may reference elements declared in other configs. They are read upfront so no
+    // file is left open once parsed
     List<Pair<String, InputStream>> appXmlConfigInputStreams = new ArrayList<>();
     for (String config : configs) {
-      appXmlConfigInputStreams.add(new Pair(config, new FileInputStream(configsPath.resolve(config).toFile())));
+      appXmlConfigInputStreams.add(new Pair(config, new ByteArrayInputStream(readConfig(configsPath.resolve(config)))));
     }
     return appXmlConfigInputStreams.isEmpty() ? null : xmlParser.parse(artifactName, appXmlConfigInputStreams);
   }
 
+  private byte[] readConfig(Path config) throws FileNotFoundException {
+    try (InputStream inputStream = new FileInputStream(config.toFile())) {
+      return IOUtils.toByteArray(inputStream);
+    } catch (FileNotFoundException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   public void processDependency(Dependency dependency, ClassLoader classloader, MavenClient mavenClient, String runtimeVersion,
                                 Path workingDir, Set<ExtensionModel> extensionModels, ArrayList<URL> dependenciesURL,
                                 ExtensionModelLoader loader, Set<String> dwlFiles) {
+    resolveDependency(dependency, mavenClient, loader).addTo(extensionModels, dependenciesURL, dwlFiles);
+  }
+
+  /**
+   * Resolves the given dependencies, loading the extension models of the mule plugins.
+   *
+   * @return the resources of each dependency, in the same order as the dependencies.
+   */
+  private List<DependencyResources> resolveDependencies(List<Dependency> dependencies, MavenClient mavenClient,
+                                                        ExtensionModelLoader loader) {
+    return mapConcurrently(dependencies, dependency -> resolveDependency(dependency, mavenClient, loader));
+  }
+
+  /**
+   * Applies the given function to every element using up to {@value #LOAD_THREADS_PROPERTY} threads.
+   *
+   * @return the results, in the same order as the elements.
+   */
+  private <T, R> List<R> mapConcurrently(List<T> elements, Function<T, R> function) {
+    int threads = Math.min(getLoadThreads(), elements.size());
+    if (threads <= 1) {
+      return elements.stream().map(function).collect(Collectors.toList());
+    }
+
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<R>> tasks = new ArrayList<>();
+      for (T element : elements) {
+        tasks.add(executorService.submit(() -> function.apply(element)));
+      }
+      List<R> results = new ArrayList<>();
+      for (Future<R> task : tasks) {
+        results.add(waitForTask(task));
+      }
+      return results;
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private <R> R waitForTask(Future<R> task) {
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ToolingException("Interrupted while generating the AST", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ToolingException(cause);
+    }
+  }
+
+  /**
+   * @return the maximum number of dependencies resolved concurrently, defined by
+   *         {@value #LOAD_THREADS_PROPERTY}. Defaults to 1.
+   */
+  protected int getLoadThreads() {
+    return Integer.getInteger(LOAD_THREADS_PROPERTY, 1);
+  }
+
+  private DependencyResources resolveDependency(Dependency dependency, MavenClient mavenClient, ExtensionModelLoader loader) {
+    DependencyResources dependencyResources = new DependencyResources();
     if (dependency.getClassifier() != null && (dependency.getClassifier().equals(MULE_PLUGIN_CLASSIFIER) || dependency.getClassifier().equals("custom")) ) {
       PluginResources extensionInformation = loader.load(toBundleDescriptor(dependency));
       if(extensionInformation!=null){
-        extensionModels.addAll(extensionInformation.getExtensionModels());
+        dependencyResources.extensionModels.addAll(extensionInformation.getExtensionModels());
 
       extensionInformation.getExportedResources().forEach(resource -> {
         try {
           if (resourceInJar(resource)) {
-            dependenciesURL.add(new URL(resource.toExternalForm().split("!/")[0] + "!/"));
+            dependencyResources.urls.add(new URL(resource.toExternalForm().split("!/")[0] + "!/"));
           }
         } catch (MalformedURLException e) {
           e.printStackTrace();
         }
       });
 
-      dwlFiles.addAll(extensionInformation.getDwlFiles());
+      dependencyResources.dwlFiles.addAll(extensionInformation.getDwlFiles());
      }
     } else {
       if (("jar").equals(dependency.getType())) {
         try {
-          dependenciesURL.add(mavenClient.resolveBundleDescriptor(toBundleDescriptor(dependency)).getBundleUri().toURL());
+          dependencyResources.urls.add(mavenClient.resolveBundleDescriptor(toBundleDescriptor(dependency)).getBundleUri().toURL());
           // this seldom can throw ArtifactResolutionException and we should not stop the build for that
         } catch (Exception e1) {
           e1.printStackTrace();
         }
       }
     }
+    return dependencyResources;
   }
 
   public Set<String> getDwlFiles() {
@@ -221,4 +331,20 @@ public class AstGenerator {
   public static InputStream serialize(ArtifactAst artifactAst) {
     return new ArtifactAstSerializerProvider().getSerializer(JSON, "1.0").serialize(artifactAst);
   }
+
+  /**
+   * The extension models, URLs and DataWeave files contributed by a single dependency.
+   */
+  private static class DependencyResources {
+
+    private final Set<ExtensionModel> extensionModels = new LinkedHashSet<>();
+    private final List<URL> urls = new ArrayList<>();
+    private final Set<String> dwlFiles = new HashSet<>();
+
+    private void addTo(Set<ExtensionModel> extensionModels, List<URL> urls, Set<String> dwlFiles) {
+      extensionModels.addAll(this.extensionModels);
+      urls.addAll(this.urls);
+      dwlFiles.addAll(this.dwlFiles);
+    }
+  }
 }
@@ -12,9 +12,15 @@ import org.mule.tooling.internal.PluginResources;
 
 import java.util.Set;
 
-public interface ExtensionModelLoader {
+public interface ExtensionModelLoader extends AutoCloseable {
 
   Set<ExtensionModel> getRuntimeExtensionModels();
 
   PluginResources load(BundleDescriptor artifactDescriptor);
+
+  /**
+   * Releases the resources used to load the extension models. The extension models already loaded can still be used.
+   */
+  @Override
+  default void close() {}
 }
@@ -6,7 +6,7 @@
  */
 package org.mule.tooling.internal;
 
-import static org.mule.runtime.extension.api.provider.RuntimeExtensionModelProviderLoaderUtils.discoverRuntimeExtensionModels;
+import static java.util.Collections.unmodifiableSet;
 
 import org.mule.maven.client.api.MavenClient;
 import org.mule.maven.pom.parser.api.model.BundleDescriptor;
@@ -35,11 +35,16 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DefaultExtensionModelLoader implements ExtensionModelLoader {
 
+  // The runtime extension models discovered by the service plus the ones it does not discover, cached per runtime version
+  private static final Map<String, Set<ExtensionModel>> RUNTIME_EXTENSION_MODELS = new ConcurrentHashMap<>();
+
   private final DefaultExtensionModelService service;
   private final MuleVersion muleVersion;
 
@@ -65,7 +70,13 @@ public class DefaultExtensionModelLoader implements ExtensionModelLoader {
 
   @Override
   public Set<ExtensionModel> getRuntimeExtensionModels() {
-    Set<ExtensionModel> runtimeExtensionModels = new HashSet<>(discoverRuntimeExtensionModels());
+    // A copy is returned since callers may add the plugin extension models to it
+    return new HashSet<>(RUNTIME_EXTENSION_MODELS.computeIfAbsent(muleVersion.toString(),
+                                                                  version -> discoverRuntimeExtensions()));
+  }
+
+  private Set<ExtensionModel> discoverRuntimeExtensions() {
+    Set<ExtensionModel> runtimeExtensionModels = new HashSet<>(service.loadRuntimeExtensionModels());
     runtimeExtensionModels.add(MuleExtensionModelProvider.getExtensionModel());
     runtimeExtensionModels.add(XmlSdk1ExtensionModelProvider.getExtensionModel());
     runtimeExtensionModels.add(MuleExtensionModelProvider.getTlsExtensionModel());
@@ -75,11 +86,16 @@ public class DefaultExtensionModelLoader implements ExtensionModelLoader {
     runtimeExtensionModels.add(HttpPolicyEeExtensionModelProvider.getExtensionModel());
     runtimeExtensionModels.add(KryoSerializerEeExtensionModelProvider.getExtensionModel());
     runtimeExtensionModels.add(TrackingEeExtensionModelProvider.getExtensionModel());
-    return runtimeExtensionModels;
+    return unmodifiableSet(runtimeExtensionModels);
   }
 
   @Override
   public PluginResources load(BundleDescriptor artifactDescriptor) {
     return service.loadExtensionData(artifactDescriptor, muleVersion);
   }
+
+  @Override
+  public void close() {
+    service.close();
+  }
 }
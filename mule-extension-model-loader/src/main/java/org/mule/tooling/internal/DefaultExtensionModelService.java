@@ -10,6 +10,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Optional.of;
 import static org.mule.maven.client.internal.util.FileUtils.loadFileContentFrom;
 import static org.mule.maven.pom.parser.api.model.MavenModelBuilderProvider.discoverProvider;
@@ -43,6 +44,7 @@ import static org.apache.commons.io.FileUtils.deleteQuietly;
 
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.mule.maven.client.api.MavenClient;
 import org.mule.maven.client.api.MavenReactorResolver;
 import org.mule.maven.pom.parser.api.model.BundleDependency;
 import org.mule.maven.pom.parser.api.model.BundleDescriptor;
@@ -54,10 +56,12 @@ import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.meta.MuleVersion;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.container.api.ModuleRepository;
+import org.mule.runtime.core.api.config.MuleManifest;
 import org.mule.runtime.module.artifact.activation.api.classloader.ArtifactClassLoaderResolver;
 import org.mule.runtime.module.artifact.activation.api.extension.discovery.ExtensionDiscoveryRequest;
 import org.mule.runtime.module.artifact.activation.api.extension.discovery.ExtensionModelDiscoverer;
 import org.mule.runtime.module.artifact.activation.api.extension.discovery.ExtensionModelLoaderRepository;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 import org.mule.runtime.module.artifact.api.classloader.MuleDeployableArtifactClassLoader;
 import org.mule.runtime.module.artifact.api.descriptor.ApplicationDescriptor;
 import org.mule.runtime.module.artifact.api.descriptor.ArtifactDescriptorCreateException;
@@ -71,6 +75,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -80,11 +85,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Default implementation of {@link ExtensionModelService}.
+ * Default implementation of {@link ExtensionModelService}. It must be {@link #close() closed} once it is no longer used.
  *
  * @since 4.0
  */
-public class DefaultExtensionModelService implements ExtensionModelService {
+public class DefaultExtensionModelService implements ExtensionModelService, AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultExtensionModelService.class);
 
@@ -113,13 +118,28 @@ public class DefaultExtensionModelService implements ExtensionModelService {
 
   private final MuleArtifactResourcesRegistry muleArtifactResourcesRegistry;
 
-  private final List<ExtensionModel> runtimeExtensionModels = new ArrayList<>();
+  // The runtime extension models only depend on the runtime version, so they are discovered once per version and shared by
+  // every service of the build
+  private static final Map<String, List<ExtensionModel>> RUNTIME_EXTENSION_MODELS = new ConcurrentHashMap<>();
+
+  private final ExtensionModelCache extensionModelCache;
+
+  private static Container sharedContainer;
+  private static int sharedContainerUsers;
+
+  private boolean usesSharedContainer;
 
   public DefaultExtensionModelService(MuleArtifactResourcesRegistry muleArtifactResourcesRegistry) {
+    this(muleArtifactResourcesRegistry, ExtensionModelCache.createDefault());
+  }
+
+  public DefaultExtensionModelService(MuleArtifactResourcesRegistry muleArtifactResourcesRegistry,
+                                      ExtensionModelCache extensionModelCache) {
     requireNonNull(muleArtifactResourcesRegistry, "muleArtifactResourcesRegistry cannot be null");
+    requireNonNull(extensionModelCache, "extensionModelCache cannot be null");
 
     this.muleArtifactResourcesRegistry = muleArtifactResourcesRegistry;
-    this.runtimeExtensionModels.addAll(discoverRuntimeExtensionModels());
+    this.extensionModelCache = extensionModelCache;
   }
 
   /**
@@ -127,7 +147,10 @@ public class DefaultExtensionModelService implements ExtensionModelService {
    */
   @Override
   public List<ExtensionModel> loadRuntimeExtensionModels() {
-    return runtimeExtensionModels;
+    String runtimeVersion = muleArtifactResourcesRegistry.getTargetMuleVersion().map(MuleVersion::toString)
+        .orElseGet(MuleManifest::getProductVersion);
+    return RUNTIME_EXTENSION_MODELS.computeIfAbsent(runtimeVersion,
+                                                    version -> unmodifiableList(new ArrayList<>(discoverRuntimeExtensionModels())));
   }
 
   @Override
@@ -249,8 +272,19 @@ public class DefaultExtensionModelService implements ExtensionModelService {
   @Override
   public PluginResources loadExtensionData(BundleDescriptor pluginDescriptor, MuleVersion muleVersion) {
     long startTime = nanoTime();
+    Optional<String> cacheKey = getCacheKey(pluginDescriptor, muleVersion);
+    Optional<PluginResources> cachedExtensionInformation = cacheKey.flatMap(extensionModelCache::get);
+    if (cachedExtensionInformation.isPresent()) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Extension model for {} loaded from cache in {}ms", pluginDescriptor,
+                     NANOSECONDS.toMillis(nanoTime() - startTime));
+      }
+      return cachedExtensionInformation.get();
+    }
+
     PluginResources extensionInformation =
         withTemporaryApplication(pluginDescriptor, emptyMap(), this::loadExtensionData, muleVersion);
+    cacheKey.ifPresent(key -> extensionModelCache.put(key, extensionInformation));
 
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Extension model for {} loaded in {}ms", pluginDescriptor, NANOSECONDS.toMillis(nanoTime() - startTime));
@@ -259,6 +293,21 @@ public class DefaultExtensionModelService implements ExtensionModelService {
     return extensionInformation;
   }
 
+  private Optional<String> getCacheKey(BundleDescriptor pluginDescriptor, MuleVersion muleVersion) {
+    MavenClient mavenClient = muleArtifactResourcesRegistry.getMavenClient();
+    if (mavenClient == null || !pluginDescriptor.isPlugin()) {
+      return empty();
+    }
+    try {
+      File pluginJarFile = new File(mavenClient.resolveBundleDescriptor(pluginDescriptor).getBundleUri());
+      return extensionModelCache.getKey(pluginDescriptor, pluginJarFile,
+                                        muleVersion != null ? muleVersion : new MuleVersion(getProductVersion()));
+    } catch (Exception e) {
+      LOGGER.debug("Cannot resolve {}, its extension model will not be cached", pluginDescriptor, e);
+      return empty();
+    }
+  }
+
   private PluginResources withTemporaryApplication(BundleDescriptor pluginDescriptor,
                                                    Map<String, Object> classLoaderModelLoaderAttributes,
                                                    TemporaryApplicationFunction action,
@@ -279,10 +328,9 @@ public class DefaultExtensionModelService implements ExtensionModelService {
       ApplicationDescriptor applicationDescriptor = muleArtifactResourcesRegistry.getApplicationDescriptorFactory()
           .createArtifact(applicationFolder, empty(), muleApplicationModel);
 
-      ModuleRepository moduleRepository = createModuleRepository(ArtifactClassLoaderResolver.class
-          .getClassLoader(), createTempDir());
+      Container container = getContainer();
       ArtifactClassLoaderResolver artifactClassLoaderResolver = ArtifactClassLoaderResolver
-          .classLoaderResolver(createContainerClassLoader(moduleRepository), moduleRepository, (empty) -> applicationFolder);
+          .classLoaderResolver(container.classLoader, container.moduleRepository, (empty) -> applicationFolder);
 
       muleArtifactResourcesRegistry.getPluginDependenciesResolver()
           .resolve(emptySet(), new ArrayList<>(applicationDescriptor.getPlugins()), false);
@@ -325,7 +373,46 @@ public class DefaultExtensionModelService implements ExtensionModelService {
     }
   }
 
-  private File createTempDir() throws IOException {
+  /**
+   * @return the container used to create the class loaders of the temporary applications. It is the same for every plugin, so
+   *         its modules are discovered only once and shared by all the services that are not closed yet.
+   */
+  private Container getContainer() throws IOException {
+    synchronized (DefaultExtensionModelService.class) {
+      if (sharedContainer == null) {
+        File moduleDiscovererTemporaryFolder = createTempDir();
+        ModuleRepository moduleRepository =
+            createModuleRepository(ArtifactClassLoaderResolver.class.getClassLoader(), moduleDiscovererTemporaryFolder);
+        sharedContainer =
+            new Container(moduleRepository, createContainerClassLoader(moduleRepository), moduleDiscovererTemporaryFolder);
+      }
+      if (!usesSharedContainer) {
+        usesSharedContainer = true;
+        sharedContainerUsers++;
+      }
+      return sharedContainer;
+    }
+  }
+
+  /**
+   * Releases the container used by this service. Once no service uses it, its class loader is disposed and its temporary folder
+   * deleted.
+   */
+  @Override
+  public void close() {
+    synchronized (DefaultExtensionModelService.class) {
+      if (!usesSharedContainer) {
+        return;
+      }
+      usesSharedContainer = false;
+      if (--sharedContainerUsers == 0) {
+        sharedContainer.dispose();
+        sharedContainer = null;
+      }
+    }
+  }
+
+  private static File createTempDir() throws IOException {
     File tempFolder = createTempDirectory(null).toFile();
     File moduleDiscovererTemporaryFolder = new File(tempFolder, ".moduleDiscoverer");
     if (!moduleDiscovererTemporaryFolder.mkdir()) {
@@ -351,6 +438,27 @@ public class DefaultExtensionModelService implements ExtensionModelService {
     model.createDeployablePomProperties(applicationFolder.toPath(), pomProperties);
   }
 
+  /**
+   * The module repository of the container and the class loader created from it.
+   */
+  private static final class Container {
+
+    private final ModuleRepository moduleRepository;
+    private final ArtifactClassLoader classLoader;
+    private final File moduleDiscovererTemporaryFolder;
+
+    private Container(ModuleRepository moduleRepository, ArtifactClassLoader classLoader, File moduleDiscovererTemporaryFolder) {
+      this.moduleRepository = moduleRepository;
+      this.classLoader = classLoader;
+      this.moduleDiscovererTemporaryFolder = moduleDiscovererTemporaryFolder;
+    }
+
+    private void dispose() {
+      classLoader.dispose();
+      deleteQuietly(moduleDiscovererTemporaryFolder.getParentFile());
+    }
+  }
+
   @FunctionalInterface
   interface TemporaryApplicationFunction {
 
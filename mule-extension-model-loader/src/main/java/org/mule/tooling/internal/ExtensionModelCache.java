@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import org.mule.maven.pom.parser.api.model.BundleDescriptor;
+import org.mule.runtime.api.meta.MuleVersion;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the {@link PluginResources} loaded for a mule-plugin. Entries are kept in memory for the current JVM and persisted on
+ * disk so they are reused across builds. An entry is keyed by the plugin coordinates, the content of the plugin JAR (which
+ * includes the pom that defines its dependencies), the plugin properties and the Mule version used to load it.
+ * <p>
+ * SNAPSHOT plugins are never cached as their content is expected to change.
+ *
+ * @since 4.4.0
+ */
+public class ExtensionModelCache {
+
+  /**
+   * System property to override the folder where the loaded extension models are stored.
+   */
+  public static final String CACHE_DIRECTORY_PROPERTY = "mule.extensionModelCache.directory";
+
+  /**
+   * System property to disable the on disk cache. The in memory cache is still used.
+   */
+  public static final String DISABLE_DISK_CACHE_PROPERTY = "mule.extensionModelCache.disableDiskCache";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExtensionModelCache.class);
+
+  private static final String SNAPSHOT = "SNAPSHOT";
+  private static final String CACHE_ENTRY_EXTENSION = ".json";
+  private static final String CACHE_FORMAT_VERSION = "1";
+  private static final Map<String, PluginResources> MEMORY_CACHE = new ConcurrentHashMap<>();
+  private static final Gson GSON = new Gson();
+
+  private final File cacheDirectory;
+  private final ExtensionModelJsonSerializer serializer = new ExtensionModelJsonSerializer();
+
+  /**
+   * @param cacheDirectory folder where the entries are persisted. If null only the in memory cache is used.
+   */
+  public ExtensionModelCache(File cacheDirectory) {
+    this.cacheDirectory = cacheDirectory;
+  }
+
+  /**
+   * @return a cache that stores its entries in the folder defined by {@link #CACHE_DIRECTORY_PROPERTY}, or
+   *         {@code ~/.m2/mule-extension-model-cache} if not defined.
+   */
+  public static ExtensionModelCache createDefault() {
+    if (Boolean.getBoolean(DISABLE_DISK_CACHE_PROPERTY)) {
+      return new ExtensionModelCache(null);
+    }
+    String cacheDirectory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+    if (cacheDirectory != null) {
+      return new ExtensionModelCache(new File(cacheDirectory));
+    }
+    return new ExtensionModelCache(new File(new File(System.getProperty("user.home"), ".m2"), "mule-extension-model-cache"));
+  }
+
+  /**
+   * Computes the key of a plugin.
+   *
+   * @param pluginDescriptor the plugin coordinates.
+   * @param pluginJarFile    the resolved plugin JAR.
+   * @param muleVersion      the Mule version the plugin is loaded for.
+   * @return the key of the plugin, or empty if the plugin cannot be cached.
+   */
+  public Optional<String> getKey(BundleDescriptor pluginDescriptor, File pluginJarFile, MuleVersion muleVersion) {
+    if (pluginDescriptor.getVersion() == null || pluginDescriptor.getVersion().endsWith(SNAPSHOT)
+        || pluginJarFile == null || !pluginJarFile.isFile()) {
+      return Optional.empty();
+    }
+    try {
+      String jarHash = com.google.common.io.Files.asByteSource(pluginJarFile).hash(Hashing.sha256()).toString();
+      String fingerprint = String.join("|", CACHE_FORMAT_VERSION,
+                                       pluginDescriptor.getGroupId(),
+                                       pluginDescriptor.getArtifactId(),
+                                       pluginDescriptor.getVersion(),
+                                       pluginDescriptor.getClassifier().orElse(""),
+                                       new TreeMap<>(pluginDescriptor.getProperties()).toString(),
+                                       String.valueOf(muleVersion),
+                                       jarHash);
+      return Optional.of(Hashing.sha256().hashString(fingerprint, UTF_8).toString());
+    } catch (IOException e) {
+      LOGGER.debug("Cannot compute the extension model cache key for {}", pluginJarFile, e);
+      return Optional.empty();
+    }
+  }
+
+  public Optional<PluginResources> get(String key) {
+    PluginResources pluginResources = MEMORY_CACHE.get(key);
+    if (pluginResources == null) {
+      pluginResources = readFromDisk(key);
+      if (pluginResources != null) {
+        MEMORY_CACHE.put(key, pluginResources);
+      }
+    }
+    return Optional.ofNullable(pluginResources);
+  }
+
+  public void put(String key, PluginResources pluginResources) {
+    MEMORY_CACHE.put(key, pluginResources);
+    writeToDisk(key, pluginResources);
+  }
+
+  private PluginResources readFromDisk(String key) {
+    if (cacheDirectory == null) {
+      return null;
+    }
+    Path entry = cacheDirectory.toPath().resolve(key + CACHE_ENTRY_EXTENSION);
+    if (!Files.isRegularFile(entry)) {
+      return null;
+    }
+    try (Reader reader = Files.newBufferedReader(entry, UTF_8)) {
+      CacheEntry cacheEntry = GSON.fromJson(reader, CacheEntry.class);
+      if (cacheEntry == null || cacheEntry.extensionModels == null || cacheEntry.exportedResources == null) {
+        return null;
+      }
+      Set<ExtensionModel> extensionModels = cacheEntry.extensionModels.stream().map(serializer::deserialize).collect(toSet());
+      List<URL> exportedResources = new ArrayList<>();
+      for (String exportedResource : cacheEntry.exportedResources) {
+        exportedResources.add(new URL(exportedResource));
+      }
+      Set<String> dwlFiles = cacheEntry.dwlFiles != null ? cacheEntry.dwlFiles : new HashSet<>();
+      return new PluginResources(extensionModels, exportedResources).setDwlFiles(dwlFiles);
+    } catch (IOException | RuntimeException e) {
+      // A corrupted or incompatible entry is treated as a cache miss and will be overwritten
+      LOGGER.debug("Ignoring extension model cache entry {}", entry, e);
+      return null;
+    }
+  }
+
+  private void writeToDisk(String key, PluginResources pluginResources) {
+    if (cacheDirectory == null) {
+      return;
+    }
+    try {
+      CacheEntry cacheEntry = new CacheEntry();
+      cacheEntry.extensionModels = pluginResources.getExtensionModels().stream().map(serializer::serialize).collect(toList());
+      cacheEntry.exportedResources = pluginResources.getExportedResources().stream().map(URL::toExternalForm).collect(toList());
+      cacheEntry.dwlFiles = pluginResources.getDwlFiles();
+
+      Files.createDirectories(cacheDirectory.toPath());
+      Path entry = cacheDirectory.toPath().resolve(key + CACHE_ENTRY_EXTENSION);
+      Path temporaryEntry = Files.createTempFile(cacheDirectory.toPath(), key, ".tmp");
+      try {
+        try (Writer writer = Files.newBufferedWriter(temporaryEntry, UTF_8)) {
+          GSON.toJson(cacheEntry, writer);
+        }
+        try {
+          Files.move(temporaryEntry, entry, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(temporaryEntry, entry, REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(temporaryEntry);
+      }
+    } catch (IOException | RuntimeException e) {
+      // The cache is an optimization, failing to persist an entry must not break the build
+      LOGGER.debug("Cannot persist extension model cache entry {}", key, e);
+    }
+  }
+
+  private static class CacheEntry {
+
+    private List<String> extensionModels;
+    private List<String> exportedResources;
+    private Set<String> dwlFiles;
+  }
+}
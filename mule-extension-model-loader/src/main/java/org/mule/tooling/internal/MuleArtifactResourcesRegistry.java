@@ -86,6 +86,10 @@ public class MuleArtifactResourcesRegistry {
     return this.targetMuleVersion;
   }
 
+  public MavenClient getMavenClient() {
+    return mavenClient;
+  }
+
   public File getWorkingDirectory() {
     return this.workingDirectory;
   }
@@ -19,6 +19,8 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.model.Dependency;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
@@ -40,8 +42,10 @@ import org.mule.runtime.ast.api.serialization.ArtifactAstSerializerProvider;
 import org.mule.runtime.extension.api.model.construct.ImmutableConstructModel;
 import org.mule.tooling.api.AstGenerator;
 import org.mule.tooling.api.ConfigurationException;
+import org.mule.tooling.api.ToolingException;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -53,6 +57,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -163,6 +169,75 @@ class AstGeneratorTest extends MavenClientTest {
     }
   }
 
+  @Test
+  void pluginsAreLoadedConcurrently() {
+    CountDownLatch loading = new CountDownLatch(2);
+    AtomicBoolean concurrent = new AtomicBoolean();
+    PluginResources pluginResources = mock(PluginResources.class);
+    when(pluginResources.getExportedResources()).thenReturn(Collections.emptyList());
+
+    try (MockedStatic<ExtensionModelLoaderFactory> extensionModelLoaderFactory = mockStatic(ExtensionModelLoaderFactory.class)) {
+      ExtensionModelLoader extensionModelLoader = mock(ExtensionModelLoader.class);
+      when(extensionModelLoader.getRuntimeExtensionModels()).thenReturn(Collections.emptySet());
+      when(extensionModelLoader.load(any(BundleDescriptor.class))).thenAnswer(invocation -> {
+        loading.countDown();
+        if (loading.await(10, SECONDS)) {
+          concurrent.set(true);
+        }
+        return pluginResources;
+      });
+      extensionModelLoaderFactory
+          .when(() -> ExtensionModelLoaderFactory.createLoader(nullable(MavenClient.class), nullable(Path.class),
+                                                               any(ClassLoader.class), anyString()))
+          .thenReturn(extensionModelLoader);
+
+      System.setProperty(AstGenerator.LOAD_THREADS_PROPERTY, "2");
+      try {
+        createAstGenerator(Collections.emptySet(), getDependencies().subList(2, 4), true, "mule-application");
+      } finally {
+        System.clearProperty(AstGenerator.LOAD_THREADS_PROPERTY);
+      }
+    }
+
+    assertThat(concurrent).isTrue();
+  }
+
+  @Test
+  void pluginLoadingFailureIsPropagated() {
+    ToolingException failure = new ToolingException("Cannot load plugin", new RuntimeException());
+
+    try (MockedStatic<ExtensionModelLoaderFactory> extensionModelLoaderFactory = mockStatic(ExtensionModelLoaderFactory.class)) {
+      ExtensionModelLoader extensionModelLoader = mock(ExtensionModelLoader.class);
+      when(extensionModelLoader.getRuntimeExtensionModels()).thenReturn(Collections.emptySet());
+      when(extensionModelLoader.load(any(BundleDescriptor.class))).thenThrow(failure);
+      extensionModelLoaderFactory
+          .when(() -> ExtensionModelLoaderFactory.createLoader(nullable(MavenClient.class), nullable(Path.class),
+                                                               any(ClassLoader.class), anyString()))
+          .thenReturn(extensionModelLoader);
+
+      assertThatThrownBy(() -> createAstGenerator(Collections.emptySet(), getDependencies(), true, "mule-application"))
+          .isSameAs(failure);
+    }
+  }
+
+  @Test
+  void generateASTFailsIfConfigDoesNotExist() {
+    try (MockedStatic<ExtensionModelLoaderFactory> extensionModelLoaderFactory = mockStatic(ExtensionModelLoaderFactory.class)) {
+      ExtensionModelLoader extensionModelLoader = mock(ExtensionModelLoader.class);
+      when(extensionModelLoader.getRuntimeExtensionModels()).thenReturn(Collections.emptySet());
+      extensionModelLoaderFactory
+          .when(() -> ExtensionModelLoaderFactory.createLoader(nullable(MavenClient.class), nullable(Path.class),
+                                                               any(ClassLoader.class), anyString()))
+          .thenReturn(extensionModelLoader);
+
+      AstGenerator generator = createAstGenerator(Collections.emptySet(), Collections.emptyList(), true, "mule-application");
+
+      assertThatThrownBy(() -> generator.generateAST("test-project", Arrays.asList("missing-1.xml", "missing-2.xml"),
+                                                     workingDir))
+          .isInstanceOf(FileNotFoundException.class);
+    }
+  }
+
   @Test
   void serializeTest() {
     InputStream inputStream = mock(InputStream.class);
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.internal;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.mule.maven.pom.parser.api.model.BundleDescriptor;
+import org.mule.runtime.api.meta.MuleVersion;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExtensionModelCacheTest {
+
+  private static final MuleVersion MULE_VERSION = new MuleVersion("4.7.4");
+
+  @TempDir
+  public File temporaryFolder;
+
+  @Test
+  void snapshotPluginsAreNotCached() throws IOException {
+    ExtensionModelCache cache = new ExtensionModelCache(null);
+    assertThat(cache.getKey(descriptor("1.0.0-SNAPSHOT"), createJar("content"), MULE_VERSION)).isEmpty();
+  }
+
+  @Test
+  void missingJarIsNotCached() {
+    ExtensionModelCache cache = new ExtensionModelCache(null);
+    assertThat(cache.getKey(descriptor("1.0.0"), new File(temporaryFolder, "missing.jar"), MULE_VERSION)).isEmpty();
+  }
+
+  @Test
+  void keyDependsOnJarContentAndMuleVersion() throws IOException {
+    ExtensionModelCache cache = new ExtensionModelCache(null);
+    File jar = createJar("content");
+
+    Optional<String> key = cache.getKey(descriptor("1.0.0"), jar, MULE_VERSION);
+    assertThat(key).isPresent();
+    assertThat(cache.getKey(descriptor("1.0.0"), jar, MULE_VERSION)).isEqualTo(key);
+    assertThat(cache.getKey(descriptor("1.0.0"), jar, new MuleVersion("4.8.0"))).isNotEqualTo(key);
+
+    Files.write(jar.toPath(), "other content".getBytes());
+    assertThat(cache.getKey(descriptor("1.0.0"), jar, MULE_VERSION)).isNotEqualTo(key);
+  }
+
+  @Test
+  void entriesArePersisted() throws IOException {
+    File cacheDirectory = new File(temporaryFolder, "cache");
+    ExtensionModelCache cache = new ExtensionModelCache(cacheDirectory);
+    URL exportedResource = new URL("jar:file:/tmp/plugin.jar!/");
+    String key = cache.getKey(descriptor("1.0.1"), createJar("persisted"), MULE_VERSION).get();
+
+    cache.put(key, new PluginResources(emptySet(), singletonList(exportedResource)).setDwlFiles(singleton("script.dwl")));
+
+    assertThat(cacheDirectory.listFiles((dir, name) -> name.endsWith(".json"))).hasSize(1);
+    PluginResources pluginResources = cache.get(key).get();
+    assertThat(pluginResources.getExportedResources()).containsExactly(exportedResource);
+    assertThat(pluginResources.getDwlFiles()).containsExactly("script.dwl");
+  }
+
+  private BundleDescriptor descriptor(String version) {
+    return new BundleDescriptor.Builder().setGroupId("org.mule.group").setArtifactId("plugin").setVersion(version)
+        .setClassifier("mule-plugin").build();
+  }
+
+  private File createJar(String content) throws IOException {
+    File jar = File.createTempFile("plugin", ".jar", temporaryFolder);
+    Files.write(jar.toPath(), content.getBytes());
+    return jar;
+  }
+}
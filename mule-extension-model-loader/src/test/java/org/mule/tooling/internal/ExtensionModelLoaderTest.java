@@ -51,6 +51,11 @@ class ExtensionModelLoaderTest extends MavenClientTest {
             .containsAll(Arrays.asList("ee", "mule", "bti", "module", "api-gateway", "batch", "tls", "http-policy", "tracking",
                                        "kryo"));
 
+    assertThat(extensionModelLoader.getRuntimeExtensionModels())
+        .as("Runtime extension models are discovered again")
+        .containsExactlyInAnyOrderElementsOf(ExtensionModelLoaderFactory
+            .createLoader(client, temp, ModuleDiscoverer.class.getClassLoader(), "4.4.0").getRuntimeExtensionModels());
+
     assertThat(http.getExtensionModels().size())
         .as("Loaded a different amount of plugin extension models than expected")
         .isEqualTo(7);
@@ -17,6 +17,7 @@ import static org.mule.tools.api.packager.packaging.PackagingType.MULE_DOMAIN_BU
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DefaultArtifact;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.mule.tools.api.packager.builder.MulePackageBuilder;
 import org.mule.tools.api.packager.builder.PackageBuilder;
 import org.mule.tools.api.packager.builder.PackageBuilderFactory;
 import org.mule.tools.api.packager.packaging.PackagingOptions;
@@ -26,6 +27,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Component;
@@ -58,6 +63,13 @@ public class PackageMojo extends AbstractMuleMojo {
 
   @Parameter(defaultValue = "${attachMuleSources}")
   protected boolean attachMuleSources = false;
+
+  /**
+   * Timestamp of the entries of a reproducible package, either as an ISO 8601 date or as seconds since the epoch. The package is
+   * only reproducible if it is defined, following the {@code project.build.outputTimestamp} convention of the Maven plugins.
+   */
+  @Parameter(defaultValue = "${project.build.outputTimestamp}")
+  protected String outputTimestamp;
   protected PackagingOptions options;
 
   @Override
@@ -67,8 +79,14 @@ public class PackageMojo extends AbstractMuleMojo {
     String targetFolder = project.getBuild().getDirectory();
     File destinationFile = getDestinationFile(targetFolder);
     try {
-      getPackageBuilder().createPackage(Paths.get(targetFolder), destinationFile.toPath());
-    } catch (ArchiverException | IOException e) {
+      PackageBuilder packageBuilder = getPackageBuilder();
+      packageBuilder.createPackage(Paths.get(targetFolder), destinationFile.toPath());
+      if (packageBuilder instanceof MulePackageBuilder) {
+        ((MulePackageBuilder) packageBuilder).getArchiveDigest()
+            .ifPresent(digest -> getLog().info(format("Reproducible package %s has SHA-256 digest %s",
+                                                      destinationFile.getName(), digest)));
+      }
+    } catch (ArchiverException | IOException | IllegalArgumentException e) {
       throw new MojoExecutionException("Exception creating the Mule App", e);
     }
 
@@ -124,9 +142,35 @@ public class PackageMojo extends AbstractMuleMojo {
     boolean isMuleApplicationTemplate = MULE_APPLICATION_TEMPLATE.equals(classifier);
     boolean isMuleApplicationExample = MULE_APPLICATION_EXAMPLE.equals(classifier);
     boolean isMuleReusableApp = MULE_PLUGIN.equals(classifier);
-    return new PackagingOptions(isMuleApplicationTemplate || onlyMuleSources,
-                                isMuleReusableApp || lightweightPackage, isMuleApplicationExample || attachMuleSources,
-                                testJar, useLocalRepository);
+    PackagingOptions packagingOptions = new PackagingOptions(isMuleApplicationTemplate || onlyMuleSources,
+                                                             isMuleReusableApp || lightweightPackage,
+                                                             isMuleApplicationExample || attachMuleSources,
+                                                             testJar, useLocalRepository);
+    packagingOptions.setOutputTimestamp(parseOutputTimestamp(outputTimestamp));
+    return packagingOptions;
+  }
+
+  /**
+   * Parses the {@code project.build.outputTimestamp}. As in the Maven plugins, a value shorter than two characters, e.g. a single
+   * character used to override an inherited one, disables the reproducible package.
+   *
+   * @return the timestamp, or {@code null} if the package is not reproducible.
+   * @throws IllegalArgumentException if the value is neither an ISO 8601 date nor a number of seconds.
+   */
+  protected static FileTime parseOutputTimestamp(String outputTimestamp) {
+    if (outputTimestamp == null || outputTimestamp.trim().length() < 2) {
+      return null;
+    }
+    String value = outputTimestamp.trim();
+    try {
+      if (value.chars().allMatch(Character::isDigit)) {
+        return FileTime.from(Instant.ofEpochSecond(Long.parseLong(value)));
+      }
+      return FileTime.from(OffsetDateTime.parse(value).toInstant());
+    } catch (DateTimeParseException | NumberFormatException e) {
+      throw new IllegalArgumentException(format("Invalid project.build.outputTimestamp [%s], expected an ISO 8601 date like"
+          + " 2023-01-01T00:00:00Z or the number of seconds since the epoch", value), e);
+    }
   }
 
   private String getType() {
@@ -8,6 +8,9 @@ package org.mule.tools.maven.mojo;
 
 import static org.mule.tooling.api.AstGenerator.validationResultItemToString;
 import static org.mule.tools.api.packager.packaging.Classifier.MULE_PLUGIN;
+import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
+import static org.mule.tools.api.packager.structure.FolderNames.MULE_ARTIFACT;
+import static org.mule.tools.api.packager.structure.PackagerFiles.ARTIFACT_AST;
 import static org.mule.tools.maven.mojo.model.lifecycle.MavenLifecyclePhase.VALIDATE;
 
 import org.mule.runtime.api.meta.MuleVersion;
@@ -22,14 +25,18 @@ import org.mule.tools.api.packager.sources.MuleArtifactContentResolver;
 import org.mule.tools.api.packager.sources.MuleContentGenerator;
 import org.mule.tools.api.packager.structure.FolderNames;
 import org.mule.tools.api.packager.structure.ProjectStructure;
+import org.mule.tools.maven.utils.ArtifactAstFingerprint;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
@@ -54,6 +61,9 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
   private static final String MULE_DOMAIN = "mule-domain";
   private static final String SKIP_AST = "skipAST";
   private static final String SKIP_AST_VALIDATION = "skipASTValidation";
+  private static final String FORCE_AST = "forceAST";
+  private static final String DWL_FILE = "dwlFile";
+  private static final String AST_FINGERPRINT_FILE_NAME = "artifact-ast.fingerprint";
 
   @Override
   public void doExecute() throws MojoExecutionException, MojoFailureException {
@@ -92,6 +102,18 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
   }
 
   private void processAst() throws IOException, ConfigurationException, MojoExecutionException {
+    Path buildDirectory = Paths.get(project.getBuild().getDirectory());
+    File astFile = buildDirectory.resolve(META_INF.value()).resolve(MULE_ARTIFACT.value()).resolve(ARTIFACT_AST).toFile();
+    File fingerprintFile = buildDirectory.resolve(AST_FINGERPRINT_FILE_NAME).toFile();
+    ArtifactAstFingerprint fingerprint = getAstFingerprint();
+    if (fingerprint != null && astFile.isFile() && buildDirectory.resolve(DWL_FILE).toFile().isFile()
+        && fingerprint.matches(fingerprintFile)) {
+      getLog().info("Configurations, dependencies and runtime version did not change, reusing the previous artifact AST");
+      return;
+    }
+    // Removed before generating the AST so a failed generation is never considered up to date
+    Files.deleteIfExists(fingerprintFile.toPath());
+
     ArtifactAst artifact;
     try {
       artifact = getArtifactAst();
@@ -104,6 +126,48 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
 
     if (artifact != null) {
       ((MuleContentGenerator) getContentGenerator()).createAstFile(serialize(artifact));
+      if (fingerprint != null) {
+        fingerprint.write(fingerprintFile);
+      }
+    }
+  }
+
+  /**
+   * @return the fingerprint of the inputs of the artifact AST, or {@code null} if the AST has to be generated anyway.
+   */
+  private ArtifactAstFingerprint getAstFingerprint() {
+    if ("true".equals(System.getProperty(FORCE_AST))) {
+      return null;
+    }
+    try {
+      MuleArtifactContentResolver contentResolver = createContentResolver();
+      Path configsPath = new ProjectStructure(projectBaseFolder.toPath(), false).getConfigsPath();
+      ArtifactAstFingerprint fingerprint = new ArtifactAstFingerprint()
+          .add("pluginVersion", descriptor.getVersion())
+          .add("runtimeVersion", getAstRuntimeVersion())
+          .add("artifactId", project.getArtifactId())
+          .add("classifier", getClassifier())
+          .add("application", contentResolver.isApplication())
+          .add(SKIP_AST_VALIDATION, System.getProperty(SKIP_AST_VALIDATION))
+          .addArtifacts(project.getArtifacts())
+          .addDependencies(project.getDependencies());
+      for (String config : contentResolver.getConfigs()) {
+        fingerprint.addFile(config, configsPath.resolve(config).toFile());
+      }
+      // The resources folder is in the class realm used to generate the AST, so the configs can import XML files from it
+      Path resourcesPath = project.getBasedir().toPath().resolve(FolderNames.SRC.value()).resolve(FolderNames.MAIN.value())
+          .resolve(FolderNames.RESOURCES.value());
+      fingerprint.addXmlFiles("resources", resourcesPath.toFile());
+      for (Resource resource : project.getResources()) {
+        File resourceDirectory = new File(resource.getDirectory());
+        if (!resourceDirectory.toPath().equals(resourcesPath)) {
+          fingerprint.addXmlFiles(resource.getDirectory(), resourceDirectory);
+        }
+      }
+      return fingerprint;
+    } catch (Exception e) {
+      getLog().debug("Cannot compute the fingerprint of the artifact AST, it will be generated again", e);
+      return null;
     }
   }
 
@@ -119,13 +183,8 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
         .addURL(mainPath.resolve(FolderNames.MULE.value()).toUri().toURL());
     descriptor.getClassRealm()
         .addURL(mainPath.resolve(FolderNames.RESOURCES.value()).toUri().toURL());
-    MuleVersion appMinRuntimeVersion = new MuleVersion(this.getMuleApplicationModelLoader().getRuntimeVersion());
-    MuleVersion runtimeVersion =
-        appMinRuntimeVersion.newerThan(MIN_RUNTIME_AST_VERSION) ? appMinRuntimeVersion : MIN_RUNTIME_AST_VERSION;
-    MuleArtifactContentResolver contentResolver =
-        new MuleArtifactContentResolver(new ProjectStructure(projectBaseFolder.toPath(), false),
-                                        getProjectInformation().getEffectivePom(),
-                                        getProjectInformation().getProject().getBundleDependencies());
+    MuleVersion runtimeVersion = getAstRuntimeVersion();
+    MuleArtifactContentResolver contentResolver = createContentResolver();
     AstGenerator astGenerator = new AstGenerator(getMavenClient(), runtimeVersion.toString(),
                                                  project.getArtifacts(), Paths.get(project.getBuild().getDirectory()),
                                                  descriptor.getClassRealm(), project.getDependencies(),
@@ -152,6 +211,17 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
     return artifactAST;
   }
 
+  private MuleVersion getAstRuntimeVersion() throws MojoExecutionException {
+    MuleVersion appMinRuntimeVersion = new MuleVersion(this.getMuleApplicationModelLoader().getRuntimeVersion());
+    return appMinRuntimeVersion.newerThan(MIN_RUNTIME_AST_VERSION) ? appMinRuntimeVersion : MIN_RUNTIME_AST_VERSION;
+  }
+
+  private MuleArtifactContentResolver createContentResolver() {
+    return new MuleArtifactContentResolver(new ProjectStructure(projectBaseFolder.toPath(), false),
+                                           getProjectInformation().getEffectivePom(),
+                                           getProjectInformation().getProject().getBundleDependencies());
+  }
+
   private boolean hasDomain() {
     if (project.getDependencies() != null) {
       for (Dependency dependency : project.getDependencies()) {
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.maven.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.hash.Hashing;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Dependency;
+
+/**
+ * Fingerprint of everything the artifact AST of a project is generated from: the content of its configuration files, its
+ * dependencies, the runtime version and the settings of the generation. Two builds with the same fingerprint generate the same
+ * AST, so the one written by the first build can be reused.
+ *
+ * @since 4.4.0
+ */
+public class ArtifactAstFingerprint {
+
+  private static final String FINGERPRINT_VERSION = "1";
+
+  private final StringBuilder content = new StringBuilder(FINGERPRINT_VERSION);
+
+  /**
+   * Adds a setting of the generation.
+   */
+  public ArtifactAstFingerprint add(String name, Object value) {
+    content.append('\n').append(name).append('=').append(value);
+    return this;
+  }
+
+  /**
+   * Adds the content of a configuration file.
+   */
+  public ArtifactAstFingerprint addFile(String name, File file) throws IOException {
+    return add(name, com.google.common.io.Files.asByteSource(file).hash(Hashing.sha256()).toString());
+  }
+
+  /**
+   * Adds the content of every XML file under a folder, as they can be imported by the configuration files through the
+   * classpath. Nothing is added if the folder does not exist.
+   */
+  public ArtifactAstFingerprint addXmlFiles(String name, File folder) throws IOException {
+    if (!folder.isDirectory()) {
+      return this;
+    }
+    Path folderPath = folder.toPath();
+    List<Path> xmlFiles;
+    try (Stream<Path> files = Files.walk(folderPath)) {
+      xmlFiles = files.filter(file -> Files.isRegularFile(file) && file.getFileName().toString().endsWith(".xml"))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+    for (Path xmlFile : xmlFiles) {
+      addFile(name + ":" + folderPath.relativize(xmlFile).toString().replace(File.separatorChar, '/'), xmlFile.toFile());
+    }
+    return this;
+  }
+
+  /**
+   * Adds the resolved dependencies. Besides their coordinates, the size and last modification time of their files are taken into
+   * account, so a snapshot that is installed again changes the fingerprint.
+   */
+  public ArtifactAstFingerprint addArtifacts(Collection<Artifact> artifacts) {
+    List<String> entries = artifacts.stream()
+        .map(artifact -> artifact.getId() + (artifact.getFile() != null
+            ? "@" + artifact.getFile().length() + ":" + artifact.getFile().lastModified()
+            : ""))
+        .sorted()
+        .collect(Collectors.toList());
+    return add("artifacts", entries);
+  }
+
+  /**
+   * Adds the direct dependencies, in declaration order.
+   */
+  public ArtifactAstFingerprint addDependencies(List<Dependency> dependencies) {
+    return add("dependencies", dependencies.stream()
+        .map(dependency -> dependency.getManagementKey() + ":" + dependency.getVersion() + ":" + dependency.getScope())
+        .collect(Collectors.toList()));
+  }
+
+  public String getValue() {
+    return Hashing.sha256().hashString(content, UTF_8).toString();
+  }
+
+  /**
+   * @return whether the fingerprint stored in the given file is this one.
+   */
+  public boolean matches(File fingerprintFile) {
+    if (!fingerprintFile.isFile()) {
+      return false;
+    }
+    try {
+      return getValue().equals(new String(Files.readAllBytes(fingerprintFile.toPath()), UTF_8).trim());
+    } catch (IOException e) {
+      // An unreadable fingerprint only means that the AST is generated again
+      return false;
+    }
+  }
+
+  public void write(File fingerprintFile) throws IOException {
+    fingerprintFile.getParentFile().mkdirs();
+    Files.write(fingerprintFile.toPath(), getValue().getBytes(UTF_8));
+  }
+}
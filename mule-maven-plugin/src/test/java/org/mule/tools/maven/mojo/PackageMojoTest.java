@@ -20,6 +20,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 
 import org.apache.maven.artifact.handler.ArtifactHandler;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
@@ -157,6 +159,28 @@ public class PackageMojoTest extends AbstractMuleMojoTest {
         .as("Packaging options should have attachMuleSources property set to true").isTrue();
   }
 
+  @Test
+  void buildPackagingOptionsReproducibleTest() {
+    assertThat(mojo.buildPackagingOptions().isReproducible()).isFalse();
+
+    mojo.outputTimestamp = "2023-01-01T00:00:00Z";
+
+    assertThat(mojo.buildPackagingOptions().getOutputTimestamp())
+        .isEqualTo(FileTime.from(Instant.parse("2023-01-01T00:00:00Z")));
+  }
+
+  @Test
+  void parseOutputTimestampTest() {
+    assertThat(PackageMojo.parseOutputTimestamp(null)).isNull();
+    assertThat(PackageMojo.parseOutputTimestamp("a")).isNull();
+    assertThat(PackageMojo.parseOutputTimestamp("1672531200")).isEqualTo(FileTime.from(Instant.parse("2023-01-01T00:00:00Z")));
+    assertThat(PackageMojo.parseOutputTimestamp("2023-01-01T02:00:00+02:00"))
+        .isEqualTo(FileTime.from(Instant.parse("2023-01-01T00:00:00Z")));
+    assertThatThrownBy(() -> PackageMojo.parseOutputTimestamp("yesterday"))
+        .isExactlyInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Invalid project.build.outputTimestamp");
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void doExecuteTests(boolean policy) throws MojoExecutionException, IOException {
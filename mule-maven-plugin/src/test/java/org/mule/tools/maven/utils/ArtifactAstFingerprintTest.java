@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.maven.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.model.Dependency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArtifactAstFingerprintTest {
+
+  @TempDir
+  public File temporaryFolder;
+
+  private File config;
+  private File fingerprintFile;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    config = new File(temporaryFolder, "mule-config.xml");
+    Files.write(config.toPath(), "<mule/>".getBytes(UTF_8));
+    fingerprintFile = new File(temporaryFolder, "target/artifact-ast.fingerprint");
+  }
+
+  @Test
+  void matchesWrittenFingerprint() throws IOException {
+    assertThat(fingerprint().matches(fingerprintFile)).isFalse();
+
+    fingerprint().write(fingerprintFile);
+
+    assertThat(fingerprint().matches(fingerprintFile)).isTrue();
+  }
+
+  @Test
+  void configChangeDoesNotMatch() throws IOException {
+    fingerprint().write(fingerprintFile);
+
+    Files.write(config.toPath(), "<mule><flow name=\"flow\"/></mule>".getBytes(UTF_8));
+
+    assertThat(fingerprint().matches(fingerprintFile)).isFalse();
+  }
+
+  @Test
+  void settingChangeDoesNotMatch() throws IOException {
+    fingerprint().write(fingerprintFile);
+
+    assertThat(fingerprint().add("runtimeVersion", "4.5.0").matches(fingerprintFile)).isFalse();
+  }
+
+  @Test
+  void importedResourceChangeDoesNotMatch() throws IOException {
+    File resources = new File(temporaryFolder, "src/main/resources");
+    File importedConfig = new File(resources, "common/imported.xml");
+    importedConfig.getParentFile().mkdirs();
+    Files.write(importedConfig.toPath(), "<mule/>".getBytes(UTF_8));
+    Files.write(new File(resources, "data.json").toPath(), "{}".getBytes(UTF_8));
+    fingerprint().addXmlFiles("resources", resources).write(fingerprintFile);
+
+    Files.write(new File(resources, "data.json").toPath(), "{\"changed\": true}".getBytes(UTF_8));
+    assertThat(fingerprint().addXmlFiles("resources", resources).matches(fingerprintFile)).isTrue();
+
+    Files.write(importedConfig.toPath(), "<mule><flow name=\"imported\"/></mule>".getBytes(UTF_8));
+    assertThat(fingerprint().addXmlFiles("resources", resources).matches(fingerprintFile)).isFalse();
+  }
+
+  @Test
+  void missingResourcesFolderIsIgnored() throws IOException {
+    assertThat(fingerprint().addXmlFiles("resources", new File(temporaryFolder, "missing")).getValue())
+        .isEqualTo(fingerprint().getValue());
+  }
+
+  @Test
+  void artifactsOrderDoesNotMatter() {
+    Artifact first = artifact("first");
+    Artifact second = artifact("second");
+
+    assertThat(new ArtifactAstFingerprint().addArtifacts(Arrays.asList(first, second)).getValue())
+        .isEqualTo(new ArtifactAstFingerprint().addArtifacts(Arrays.asList(second, first)).getValue());
+    assertThat(new ArtifactAstFingerprint().addArtifacts(Arrays.asList(first, second)).getValue())
+        .isNotEqualTo(new ArtifactAstFingerprint().addArtifacts(Collections.singletonList(first)).getValue());
+  }
+
+  @Test
+  void dependencyVersionChangeDoesNotMatch() {
+    Dependency dependency = new Dependency();
+    dependency.setGroupId("org.mule.connectors");
+    dependency.setArtifactId("mule-http-connector");
+    dependency.setClassifier("mule-plugin");
+    dependency.setVersion("1.5.25");
+    String fingerprint = new ArtifactAstFingerprint().addDependencies(Collections.singletonList(dependency)).getValue();
+
+    dependency.setVersion("1.5.26");
+
+    assertThat(new ArtifactAstFingerprint().addDependencies(Collections.singletonList(dependency)).getValue())
+        .isNotEqualTo(fingerprint);
+  }
+
+  private ArtifactAstFingerprint fingerprint() throws IOException {
+    return new ArtifactAstFingerprint()
+        .add("runtimeVersion", "4.4.0")
+        .addFile("mule-config.xml", config);
+  }
+
+  private Artifact artifact(String artifactId) {
+    return new DefaultArtifact("org.mule", artifactId, "1.0.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+  }
+}
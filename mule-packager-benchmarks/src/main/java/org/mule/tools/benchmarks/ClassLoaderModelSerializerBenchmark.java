@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.tools.api.classloader.ClassLoaderModelJsonSerializer;
+import org.mule.tools.api.classloader.model.ClassLoaderModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing and reading the classloader-model.json of an application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClassLoaderModelSerializerBenchmark {
+
+  @Param({"50", "500"})
+  public int dependencies;
+
+  @Param({"20"})
+  public int packagesPerDependency;
+
+  @Param({"true", "false"})
+  public boolean prettyPrinting;
+
+  private File workingDirectory;
+  private ClassLoaderModel classLoaderModel;
+  private File classLoaderModelFile;
+
+  @Setup
+  public void setUp() throws IOException {
+    workingDirectory = Files.createTempDirectory("classloader-model-benchmark").toFile();
+    classLoaderModel = SyntheticArtifacts.createClassLoaderModel(dependencies, packagesPerDependency);
+    classLoaderModelFile = ClassLoaderModelJsonSerializer.serializeToFile(classLoaderModel, workingDirectory, prettyPrinting);
+  }
+
+  @TearDown
+  public void tearDown() {
+    SyntheticArtifacts.deleteQuietly(workingDirectory);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return ClassLoaderModelJsonSerializer.serialize(classLoaderModel, prettyPrinting);
+  }
+
+  @Benchmark
+  public ClassLoaderModel deserialize() {
+    return ClassLoaderModelJsonSerializer.deserialize(classLoaderModelFile);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.tools.api.util.FileJarExplorer;
+import org.mule.tools.api.util.JarInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the exploration of the packages and resources of a jar, done for every dependency of an application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JarExplorerBenchmark {
+
+  @Param({"100", "2000"})
+  public int classes;
+
+  private File workingDirectory;
+  private URI jar;
+  private FileJarExplorer explorer;
+
+  @Setup
+  public void setUp() throws IOException {
+    workingDirectory = Files.createTempDirectory("jar-explorer-benchmark").toFile();
+    jar = SyntheticArtifacts.createJar(new File(workingDirectory, "library.jar"), classes, 42).toURI();
+    explorer = new FileJarExplorer();
+  }
+
+  @TearDown
+  public void tearDown() {
+    SyntheticArtifacts.deleteQuietly(workingDirectory);
+  }
+
+  @Benchmark
+  public JarInfo explore() {
+    return explorer.explore(jar);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.tools.api.packager.archiver.MuleArchiver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of a Mule application archive containing a repository folder of jars and a classes folder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class MuleArchiverBenchmark {
+
+  @Param({"50", "300"})
+  public int jars;
+
+  @Param({"200"})
+  public int classesPerJar;
+
+  @Param({"1000"})
+  public int classes;
+
+  private File workingDirectory;
+  private File repositoryFolder;
+  private File classesFolder;
+  private File archive;
+
+  @Setup
+  public void setUp() throws IOException {
+    workingDirectory = Files.createTempDirectory("mule-archiver-benchmark").toFile();
+    repositoryFolder = new File(workingDirectory, "repository");
+    for (int i = 0; i < jars; i++) {
+      SyntheticArtifacts.createJar(new File(repositoryFolder, "library-" + i + ".jar"), classesPerJar, i);
+    }
+    classesFolder = SyntheticArtifacts.createFolder(new File(workingDirectory, "classes"), classes, 42);
+    archive = new File(workingDirectory, "application.jar");
+  }
+
+  @TearDown
+  public void tearDown() {
+    SyntheticArtifacts.deleteQuietly(workingDirectory);
+  }
+
+  @Benchmark
+  public File createArchive() throws IOException {
+    MuleArchiver archiver = new MuleArchiver();
+    archiver.addRepository(repositoryFolder, null, null);
+    archiver.addToRoot(classesFolder, null, null);
+    archiver.setDestFile(archive);
+    archive.delete();
+    archiver.createArchive();
+    return archive;
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.maven.client.api.MavenReactorResolver;
+import org.mule.tools.api.classloader.model.ApplicationClassloaderModel;
+import org.mule.tools.api.classloader.model.ApplicationGAVModel;
+import org.mule.tools.api.classloader.model.ClassLoaderModel;
+import org.mule.tools.api.muleclassloader.model.ApplicationClassLoaderModelAssembler;
+import org.mule.tools.api.repository.ArtifactInstaller;
+import org.mule.tools.api.repository.RepositoryGenerator;
+import org.mule.tools.api.util.PackagerLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the generation of the application repository folder. Dependency resolution is replaced by a synthetic classloader
+ * model so only the installation of the artifacts is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class RepositoryGeneratorBenchmark {
+
+  @Param({"50", "300"})
+  public int libraries;
+
+  @Param({"10"})
+  public int plugins;
+
+  @Param({"200"})
+  public int classesPerJar;
+
+  private File workingDirectory;
+  private File outputDirectory;
+  private ApplicationClassloaderModel applicationClassloaderModel;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    workingDirectory = Files.createTempDirectory("repository-generator-benchmark").toFile();
+    applicationClassloaderModel = SyntheticArtifacts.createLocalRepository(new File(workingDirectory, "m2"), libraries,
+                                                                           plugins, classesPerJar);
+    outputDirectory = new File(workingDirectory, "target");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    SyntheticArtifacts.deleteQuietly(workingDirectory);
+  }
+
+  /**
+   * The output folder is removed before each run, as in a clean build.
+   */
+  @State(Scope.Benchmark)
+  public static class CleanOutput {
+
+    @Setup(Level.Invocation)
+    public void clean(RepositoryGeneratorBenchmark benchmark) {
+      SyntheticArtifacts.deleteQuietly(benchmark.outputDirectory);
+    }
+  }
+
+  @Benchmark
+  public ClassLoaderModel generateClean(CleanOutput cleanOutput) throws IOException {
+    return newRepositoryGenerator().generate(false, false, true, false, empty());
+  }
+
+  @Benchmark
+  public ClassLoaderModel generateIncremental() throws IOException {
+    return newRepositoryGenerator().generate(false, false, true, false, empty());
+  }
+
+  private RepositoryGenerator newRepositoryGenerator() {
+    return new RepositoryGenerator(new File(workingDirectory, "pom.xml"), outputDirectory,
+                                   new ArtifactInstaller(new NoOpPackagerLog()),
+                                   new SyntheticClassLoaderModelAssembler(applicationClassloaderModel),
+                                   new ApplicationGAVModel("org.mule.synthetic", "app", SyntheticArtifacts.VERSION), null);
+  }
+
+  private static class SyntheticClassLoaderModelAssembler extends ApplicationClassLoaderModelAssembler {
+
+    private final ApplicationClassloaderModel applicationClassloaderModel;
+
+    SyntheticClassLoaderModelAssembler(ApplicationClassloaderModel applicationClassloaderModel) {
+      super(null, null, null, null);
+      this.applicationClassloaderModel = applicationClassloaderModel;
+    }
+
+    @Override
+    public ApplicationClassloaderModel getApplicationClassLoaderModel(File pomFile, File outputDirectory,
+                                                                      ApplicationGAVModel appGAVModel,
+                                                                      boolean includeTestDependencies,
+                                                                      Optional<MavenReactorResolver> mavenReactorResolver,
+                                                                      List<String> activeProfiles) {
+      return applicationClassloaderModel;
+    }
+  }
+
+  private static class NoOpPackagerLog implements PackagerLog {
+
+    @Override
+    public void info(String s) {}
+
+    @Override
+    public void error(String s) {}
+
+    @Override
+    public void warn(String s) {}
+
+    @Override
+    public void debug(String s) {}
+
+    @Override
+    public void error(String s, Throwable e) {}
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mule.tools.api.classloader.Constants.ARTIFACT_ID;
+import static org.mule.tools.api.classloader.Constants.GROUP_ID;
+import static org.mule.tools.api.classloader.Constants.MULE_MAVEN_PLUGIN_ARTIFACT_ID;
+import static org.mule.tools.api.classloader.Constants.MULE_MAVEN_PLUGIN_GROUP_ID;
+import static org.mule.tools.api.classloader.Constants.SHARED_LIBRARIES_FIELD;
+import static org.mule.tools.api.classloader.Constants.SHARED_LIBRARY_FIELD;
+
+import org.mule.maven.pom.parser.api.model.BundleDependency;
+import org.mule.maven.pom.parser.api.model.BundleDescriptor;
+import org.mule.tools.api.classloader.model.Artifact;
+import org.mule.tools.api.classloader.model.ArtifactCoordinates;
+import org.mule.tools.api.muleclassloader.model.util.ArtifactUtils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures marking as shared the artifacts of the shared libraries declared in the mule-maven-plugin configuration, including
+ * their transitive dependencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SharedLibrariesBenchmark {
+
+  @Param({"100", "1000"})
+  public int dependencies;
+
+  @Param({"10", "50"})
+  public int sharedLibraries;
+
+  @Param({"5"})
+  public int transitiveDependencies;
+
+  private List<BundleDependency> appDependencies;
+  private List<Artifact> artifacts;
+  private Model pomModel;
+
+  @Setup
+  public void setUp() {
+    artifacts = new ArrayList<>();
+    appDependencies = new ArrayList<>();
+    for (int i = 0; i < dependencies; i++) {
+      ArtifactCoordinates coordinates = SyntheticArtifacts.libraryCoordinates(i);
+      artifacts.add(new Artifact(coordinates, new File(coordinates.getArtifactId() + ".jar").toURI()));
+
+      BundleDependency.Builder dependency = new BundleDependency.Builder().setDescriptor(descriptorOf(coordinates));
+      for (int j = 1; j <= transitiveDependencies; j++) {
+        ArtifactCoordinates transitive = SyntheticArtifacts.libraryCoordinates((i + j) % dependencies);
+        dependency.addTransitiveDependency(new BundleDependency.Builder().setDescriptor(descriptorOf(transitive)).build());
+      }
+      appDependencies.add(dependency.build());
+    }
+
+    Xpp3Dom sharedLibrariesDom = new Xpp3Dom(SHARED_LIBRARIES_FIELD);
+    for (int i = 0; i < sharedLibraries; i++) {
+      ArtifactCoordinates coordinates = SyntheticArtifacts.libraryCoordinates(i * (dependencies / sharedLibraries));
+      Xpp3Dom sharedLibrary = new Xpp3Dom(SHARED_LIBRARY_FIELD);
+      sharedLibrary.addChild(element(GROUP_ID, coordinates.getGroupId()));
+      sharedLibrary.addChild(element(ARTIFACT_ID, coordinates.getArtifactId()));
+      sharedLibrariesDom.addChild(sharedLibrary);
+    }
+    Xpp3Dom configuration = new Xpp3Dom("configuration");
+    configuration.addChild(sharedLibrariesDom);
+
+    Plugin plugin = new Plugin();
+    plugin.setGroupId(MULE_MAVEN_PLUGIN_GROUP_ID);
+    plugin.setArtifactId(MULE_MAVEN_PLUGIN_ARTIFACT_ID);
+    plugin.setConfiguration(configuration);
+    Build build = new Build();
+    build.addPlugin(plugin);
+    pomModel = new Model();
+    pomModel.setBuild(build);
+  }
+
+  @Benchmark
+  public List<Artifact> updateArtifactsSharedState() {
+    return ArtifactUtils.updateArtifactsSharedState(appDependencies, artifacts, pomModel, emptyList());
+  }
+
+  private static BundleDescriptor descriptorOf(ArtifactCoordinates coordinates) {
+    return new BundleDescriptor.Builder()
+        .setGroupId(coordinates.getGroupId())
+        .setArtifactId(coordinates.getArtifactId())
+        .setVersion(coordinates.getVersion())
+        .setBaseVersion(coordinates.getVersion())
+        .setType(coordinates.getType())
+        .build();
+  }
+
+  private static Xpp3Dom element(String name, String value) {
+    Xpp3Dom element = new Xpp3Dom(name);
+    element.setValue(value);
+    return element;
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.mule.tools.api.classloader.model.ApplicationClassloaderModel;
+import org.mule.tools.api.classloader.model.Artifact;
+import org.mule.tools.api.classloader.model.ArtifactCoordinates;
+import org.mule.tools.api.classloader.model.ClassLoaderModel;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Generates the jars, local repositories and classloader models used by the benchmarks. Everything is created on disk from a
+ * fixed seed so runs are reproducible and do not need network access or a Maven installation.
+ */
+public final class SyntheticArtifacts {
+
+  public static final String VERSION = "1.0.0";
+  public static final String MULE_PLUGIN_CLASSIFIER = "mule-plugin";
+  public static final String CLASS_LOADER_MODEL_VERSION = "1.2.0";
+
+  private static final int ENTRY_SIZE = 512;
+
+  private SyntheticArtifacts() {}
+
+  /**
+   * Creates a jar with the given number of classes, spread across packages of ten classes each, plus one resource every ten
+   * classes.
+   */
+  public static File createJar(File jar, int classes, long seed) throws IOException {
+    jar.getParentFile().mkdirs();
+    Random random = new Random(seed);
+    byte[] content = new byte[ENTRY_SIZE];
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+      for (int i = 0; i < classes; i++) {
+        random.nextBytes(content);
+        out.putNextEntry(new ZipEntry("org/mule/synthetic/p" + (i / 10) + "/Class" + i + ".class"));
+        out.write(content);
+        out.closeEntry();
+        if (i % 10 == 0) {
+          out.putNextEntry(new ZipEntry("META-INF/resources/resource" + i + ".properties"));
+          out.write(("key=" + i).getBytes(UTF_8));
+          out.closeEntry();
+        }
+      }
+    }
+    return jar;
+  }
+
+  /**
+   * Creates a Maven like local repository with the given number of libraries and mule plugins. Each artifact has its jar and
+   * its pom.
+   *
+   * @return the application classloader model that references all the created artifacts.
+   */
+  public static ApplicationClassloaderModel createLocalRepository(File repositoryFolder, int libraries, int plugins,
+                                                                  int classesPerJar)
+      throws IOException {
+    ClassLoaderModel appModel = new ClassLoaderModel(CLASS_LOADER_MODEL_VERSION,
+                                                     new ArtifactCoordinates("org.mule.synthetic", "app", VERSION,
+                                                                             "jar", "mule-application"));
+    List<Artifact> dependencies = new ArrayList<>();
+    List<ClassLoaderModel> pluginModels = new ArrayList<>();
+    for (int i = 0; i < libraries; i++) {
+      dependencies.add(createArtifact(repositoryFolder, libraryCoordinates(i), classesPerJar, i));
+    }
+    for (int i = 0; i < plugins; i++) {
+      ArtifactCoordinates pluginCoordinates = new ArtifactCoordinates("org.mule.synthetic.plugins", "plugin-" + i, VERSION,
+                                                                      "jar", MULE_PLUGIN_CLASSIFIER);
+      dependencies.add(createArtifact(repositoryFolder, pluginCoordinates, classesPerJar, libraries + i));
+
+      ClassLoaderModel pluginModel = new ClassLoaderModel(CLASS_LOADER_MODEL_VERSION, pluginCoordinates);
+      List<Artifact> pluginDependencies = new ArrayList<>();
+      for (int j = 0; j < Math.min(libraries, 10); j++) {
+        pluginDependencies.add(artifactOf(repositoryFolder, libraryCoordinates((i + j) % libraries)));
+      }
+      pluginModel.setDependencies(pluginDependencies);
+      pluginModels.add(pluginModel);
+    }
+    appModel.setDependencies(dependencies);
+
+    ApplicationClassloaderModel applicationClassloaderModel = new ApplicationClassloaderModel(appModel);
+    applicationClassloaderModel.addAllMulePluginClassloaderModels(pluginModels);
+    return applicationClassloaderModel;
+  }
+
+  /**
+   * Creates a classloader model with the given number of dependencies, each one exporting packages and resources, without
+   * creating any file.
+   */
+  public static ClassLoaderModel createClassLoaderModel(int dependencies, int packagesPerDependency) {
+    ClassLoaderModel model = new ClassLoaderModel(CLASS_LOADER_MODEL_VERSION,
+                                                  new ArtifactCoordinates("org.mule.synthetic", "app", VERSION, "jar",
+                                                                          "mule-application"));
+    List<Artifact> artifacts = new ArrayList<>();
+    for (int i = 0; i < dependencies; i++) {
+      Artifact artifact = new Artifact(libraryCoordinates(i), new File("/repository/library-" + i + ".jar").toURI());
+      String[] packages = new String[packagesPerDependency];
+      String[] resources = new String[packagesPerDependency];
+      for (int j = 0; j < packagesPerDependency; j++) {
+        packages[j] = "org.mule.synthetic.library" + i + ".p" + j;
+        resources[j] = "META-INF/library" + i + "/resource" + j + ".properties";
+      }
+      artifact.setPackages(packages);
+      artifact.setResources(resources);
+      artifacts.add(artifact);
+    }
+    model.setDependencies(artifacts);
+    return model;
+  }
+
+  public static ArtifactCoordinates libraryCoordinates(int index) {
+    return new ArtifactCoordinates("org.mule.synthetic.group" + (index % 10), "library-" + index, VERSION, "jar", null);
+  }
+
+  /**
+   * Creates a folder with the given number of files of random content, spread across ten subfolders.
+   */
+  public static File createFolder(File folder, int files, long seed) throws IOException {
+    Random random = new Random(seed);
+    byte[] content = new byte[ENTRY_SIZE];
+    for (int i = 0; i < files; i++) {
+      File file = new File(folder, "folder" + (i % 10) + File.separator + "file" + i + ".bin");
+      file.getParentFile().mkdirs();
+      random.nextBytes(content);
+      try (OutputStream out = new FileOutputStream(file)) {
+        out.write(content);
+      }
+    }
+    return folder;
+  }
+
+  public static void deleteQuietly(File file) {
+    FileUtils.deleteQuietly(file);
+  }
+
+  private static Artifact createArtifact(File repositoryFolder, ArtifactCoordinates coordinates, int classes, long seed)
+      throws IOException {
+    Artifact artifact = artifactOf(repositoryFolder, coordinates);
+    File jar = new File(artifact.getUri());
+    createJar(jar, classes, seed);
+    File pom = new File(jar.getParentFile(), coordinates.getArtifactId() + "-" + coordinates.getVersion() + ".pom");
+    Files.write(pom.toPath(), ("<project><modelVersion>4.0.0</modelVersion><groupId>" + coordinates.getGroupId()
+        + "</groupId><artifactId>" + coordinates.getArtifactId() + "</artifactId><version>" + coordinates.getVersion()
+        + "</version></project>").getBytes(UTF_8));
+    return artifact;
+  }
+
+  private static Artifact artifactOf(File repositoryFolder, ArtifactCoordinates coordinates) {
+    File folder = new File(repositoryFolder, coordinates.getGroupId().replace('.', File.separatorChar) + File.separator
+        + coordinates.getArtifactId() + File.separator + coordinates.getVersion());
+    String classifier = coordinates.getClassifier() != null ? "-" + coordinates.getClassifier() : "";
+    File jar = new File(folder, coordinates.getArtifactId() + "-" + coordinates.getVersion() + classifier + ".jar");
+    return new Artifact(coordinates, jar.toURI());
+  }
+}
@@ -10,7 +10,7 @@ import org.mule.maven.client.api.MavenClient;
 import org.mule.maven.pom.parser.api.model.BundleDependency;
 import org.mule.tools.api.classloader.model.Artifact;
 import org.mule.tools.api.classloader.model.ClassLoaderModel;
-import org.mule.tools.api.util.FileJarExplorer;
+import org.mule.tools.api.util.CachingJarExplorer;
 import org.mule.tools.api.util.JarExplorer;
 import org.mule.tools.api.util.JarInfo;
 
@@ -32,7 +32,7 @@ public abstract class ClassloaderModelResolver {
   private final String classifier;
   protected Map<BundleDependency, List<BundleDependency>> dependenciesMap;
 
-  private JarExplorer jarExplorer = new FileJarExplorer();
+  private JarExplorer jarExplorer = CachingJarExplorer.getDefault();
 
   public ClassloaderModelResolver(MavenClient mavenClient, String classifier) {
     this.mavenClient = mavenClient;
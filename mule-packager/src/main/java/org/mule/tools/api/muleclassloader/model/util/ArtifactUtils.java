@@ -8,6 +8,8 @@ package org.mule.tools.api.muleclassloader.model.util;
 
 import static com.google.common.base.Preconditions.checkState;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.newSetFromMap;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -27,14 +29,21 @@ import org.mule.maven.pom.parser.api.model.BundleDescriptor;
 import org.mule.tools.api.classloader.model.ApplicationGAVModel;
 import org.mule.tools.api.classloader.model.Artifact;
 import org.mule.tools.api.classloader.model.ArtifactCoordinates;
-import org.mule.tools.api.util.FileJarExplorer;
+import org.mule.tools.api.util.CachingJarExplorer;
 import org.mule.tools.api.util.JarInfo;
 
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.model.BuildBase;
@@ -149,7 +158,7 @@ public class ArtifactUtils {
         || isBlank(artifact.getUri().getPath())) {
       return artifact;
     }
-    JarInfo jarInfo = new FileJarExplorer().explore(artifact.getUri());
+    JarInfo jarInfo = CachingJarExplorer.getDefault().explore(artifact.getUri());
     artifact.setPackages(jarInfo.getPackages().toArray(new String[jarInfo.getPackages().size()]));
     artifact.setResources(jarInfo.getResources().toArray(new String[jarInfo.getResources().size()]));
     return artifact;
@@ -184,11 +193,13 @@ public class ArtifactUtils {
             if (sharedLibrariesDom != null) {
               Xpp3Dom[] sharedLibraries = sharedLibrariesDom.getChildren(SHARED_LIBRARY_FIELD);
               if (sharedLibraries != null) {
+                Set<String> sharedLibrariesKeys = new HashSet<>();
                 for (Xpp3Dom sharedLibrary : sharedLibraries) {
                   String groupId = getAttribute(sharedLibrary, GROUP_ID);
                   String artifactId = getAttribute(sharedLibrary, ARTIFACT_ID);
-                  findAndExportSharedLibrary(groupId, artifactId, artifacts, appDependencies);
+                  sharedLibrariesKeys.add(getGroupAndArtifactIdKey(groupId, artifactId));
                 }
+                findAndExportSharedLibraries(sharedLibrariesKeys, artifacts, appDependencies);
               }
             }
           }
@@ -198,35 +209,64 @@ public class ArtifactUtils {
     return artifacts;
   }
 
-  private static void findAndExportSharedLibrary(String sharedLibraryGroupId, String sharedLibraryArtifactId,
-                                                 List<Artifact> artifacts, List<BundleDependency> appDependencies) {
-    appDependencies.stream()
-        .forEach(bundleDependency -> {
-          if (bundleDependency.getDescriptor().getGroupId().equals(sharedLibraryGroupId) &&
-              bundleDependency.getDescriptor().getArtifactId().equals(sharedLibraryArtifactId)) {
-            setArtifactTransitiveDependenciesAsShared(artifacts, bundleDependency);
-          }
-        });
-
+  /**
+   * Marks as shared the artifacts of the app dependencies declared as shared libraries, and the ones of all their transitive
+   * dependencies. The dependency graph is traversed once, whatever the number of shared libraries, and each dependency is
+   * matched to its artifacts through an index instead of scanning them.
+   */
+  private static void findAndExportSharedLibraries(Set<String> sharedLibrariesKeys, List<Artifact> artifacts,
+                                                   List<BundleDependency> appDependencies) {
+    if (sharedLibrariesKeys.isEmpty()) {
+      return;
+    }
+    Map<String, List<Artifact>> artifactsIndex = indexByGroupAndArtifactId(artifacts);
+    Deque<BundleDependency> pending = new ArrayDeque<>();
+    for (BundleDependency bundleDependency : appDependencies) {
+      if (sharedLibrariesKeys.contains(getGroupAndArtifactIdKey(bundleDependency.getDescriptor()))) {
+        pending.push(bundleDependency);
+      }
+    }
+    // The same dependency instance may be reached from several shared libraries, it is only visited once
+    Set<BundleDependency> visited = newSetFromMap(new IdentityHashMap<>());
+    while (!pending.isEmpty()) {
+      BundleDependency bundleDependency = pending.pop();
+      if (!visited.add(bundleDependency)) {
+        continue;
+      }
+      artifactsIndex.getOrDefault(getGroupAndArtifactIdKey(bundleDependency.getDescriptor()), emptyList())
+          .forEach(artifact -> artifact.setShared(true));
+      bundleDependency.getTransitiveDependencies().forEach(pending::push);
+    }
   }
 
-  private static void setArtifactTransitiveDependenciesAsShared(List<Artifact> artifacts, BundleDependency bundleDependency) {
-    setArtifactAsShared(bundleDependency.getDescriptor().getGroupId(), bundleDependency.getDescriptor().getArtifactId(),
-                        artifacts);
-    bundleDependency.getTransitiveDependencies()
-        .stream()
-        .forEach(transitiveDependency -> setArtifactTransitiveDependenciesAsShared(artifacts, transitiveDependency));
+  /**
+   * Indexes artifacts by their group and artifact ids, see {@link #getGroupAndArtifactIdKey(String, String)}.
+   *
+   * @param artifacts the artifacts to index.
+   * @return the artifacts that share the same group and artifact ids, in their original order, for each key.
+   * @since 4.4.0
+   */
+  public static Map<String, List<Artifact>> indexByGroupAndArtifactId(Collection<Artifact> artifacts) {
+    Map<String, List<Artifact>> index = new HashMap<>();
+    for (Artifact artifact : artifacts) {
+      index.computeIfAbsent(getGroupAndArtifactIdKey(artifact.getArtifactCoordinates().getGroupId(),
+                                                     artifact.getArtifactCoordinates().getArtifactId()),
+                            key -> new ArrayList<>())
+          .add(artifact);
+    }
+    return index;
   }
 
-  private static void setArtifactAsShared(String sharedLibraryGroupId, String sharedLibraryArtifactId, List<Artifact> artifacts) {
-    artifacts.stream()
-        .forEach(artifact -> {
-          if (artifact.getArtifactCoordinates().getGroupId().equals(sharedLibraryGroupId) &&
-              artifact.getArtifactCoordinates().getArtifactId().equals(sharedLibraryArtifactId)) {
-            artifact.setShared(true);
+  /**
+   * @return the key of the {@link #indexByGroupAndArtifactId(Collection) index} for the given group and artifact ids.
+   * @since 4.4.0
+   */
+  public static String getGroupAndArtifactIdKey(String groupId, String artifactId) {
+    return groupId + ":" + artifactId;
+  }
 
-          }
-        });
+  private static String getGroupAndArtifactIdKey(BundleDescriptor descriptor) {
+    return getGroupAndArtifactIdKey(descriptor.getGroupId(), descriptor.getArtifactId());
   }
 
 
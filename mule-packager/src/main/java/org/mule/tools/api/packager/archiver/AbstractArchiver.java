@@ -11,9 +11,11 @@ import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.attribute.FileTime;
 
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.plexus.archiver.ArchiverException;
+import org.codehaus.plexus.archiver.zip.AbstractZipArchiver;
 import org.codehaus.plexus.util.DirectoryScanner;
 
 /**
@@ -27,10 +29,20 @@ public class AbstractArchiver {
 
   public final static String MAVEN_LOCATION = META_INF_LOCATION + MAVEN.value() + File.separator;
 
+  /**
+   * System property that defines if the jars and zips added to a compressed archive are deflated again. They are stored as is by
+   * default, since compressing an already compressed file takes time and barely reduces its size.
+   */
+  public static final String RECOMPRESS_ADDED_ZIPS_PROPERTY = "mule.archiver.recompressAddedZips";
+
   private org.codehaus.plexus.archiver.AbstractArchiver archiver;
 
   public AbstractArchiver(org.codehaus.plexus.archiver.AbstractArchiver archiver) {
     this.archiver = archiver;
+    // Jars and zips added to the archive are already compressed, so they are stored as is instead of being deflated again
+    if (archiver instanceof AbstractZipArchiver) {
+      ((AbstractZipArchiver) archiver).setRecompressAddedZips(Boolean.getBoolean(RECOMPRESS_ADDED_ZIPS_PROPERTY));
+    }
   }
 
   /**
@@ -58,6 +70,16 @@ public class AbstractArchiver {
     archiver.setDestFile(destFile);
   }
 
+  /**
+   * Makes the archive reproducible: its entries are sorted, their permissions normalized and their last modification time set
+   * to the given one, so the same content always produces the same bytes.
+   *
+   * @param lastModifiedTime the last modification time of every entry.
+   */
+  public void configureReproducibleBuild(FileTime lastModifiedTime) {
+    archiver.configureReproducibleBuild(lastModifiedTime);
+  }
+
   /**
    * It saves the archive in the file sytem
    * 
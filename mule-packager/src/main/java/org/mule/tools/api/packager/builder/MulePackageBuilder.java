@@ -6,6 +6,8 @@
  */
 package org.mule.tools.api.packager.builder;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static org.mule.tools.api.packager.structure.FolderNames.CLASSES;
@@ -20,10 +22,13 @@ import static org.mule.tools.api.packager.structure.FolderNames.TEST_MULE;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import com.google.common.hash.Hashing;
 import org.codehaus.plexus.archiver.ArchiverException;
 
 import org.mule.tools.api.packager.archiver.MuleArchiver;
@@ -36,6 +41,7 @@ import org.mule.tools.api.packager.structure.FolderNames;
 public class MulePackageBuilder implements PackageBuilder {
 
   public static final String CLASSLOADER_MODEL_JSON = "classloader-model.json";
+  public static final String DIGEST_FILE_EXTENSION = ".sha256";
   private PackagingOptions packagingOptions;
 
   private File classesFolder = null;
@@ -53,6 +59,8 @@ public class MulePackageBuilder implements PackageBuilder {
 
   private MuleArchiver archiver = null;
 
+  private String archiveDigest = null;
+
   public MulePackageBuilder withClasses(File folder) {
     checkArgument(folder != null, "The folder must not be null");
     checkArgument(folder.exists(), "The folder must exists");
@@ -205,6 +213,9 @@ public class MulePackageBuilder implements PackageBuilder {
     validateState(packagingOptions);
 
     MuleArchiver archiver = getArchiver();
+    if (packagingOptions.isReproducible()) {
+      archiver.configureReproducibleBuild(packagingOptions.getOutputTimestamp());
+    }
     if (!packagingOptions.isOnlyMuleSources()) {
       archiver.addToRoot(classesFolder, null, null);
       archiver.addMaven(mavenFolder, null, null);
@@ -233,6 +244,27 @@ public class MulePackageBuilder implements PackageBuilder {
 
     archiver.setDestFile(destinationPath.toFile());
     archiver.createArchive();
+
+    if (packagingOptions.isReproducible()) {
+      publishDigest(destinationPath);
+    }
+  }
+
+  /**
+   * Computes the SHA-256 digest of a reproducible package and writes it next to it, in the format of {@code sha256sum}, so
+   * consumers can tell whether a package changed without comparing its content.
+   */
+  private void publishDigest(Path destinationPath) throws IOException {
+    archiveDigest = com.google.common.io.Files.asByteSource(destinationPath.toFile()).hash(Hashing.sha256()).toString();
+    Path digestPath = destinationPath.resolveSibling(destinationPath.getFileName() + DIGEST_FILE_EXTENSION);
+    Files.write(digestPath, (archiveDigest + "  " + destinationPath.getFileName() + "\n").getBytes(UTF_8));
+  }
+
+  /**
+   * @return the SHA-256 digest of the package, if it was created in reproducible mode.
+   */
+  public Optional<String> getArchiveDigest() {
+    return Optional.ofNullable(archiveDigest);
   }
 
   /**
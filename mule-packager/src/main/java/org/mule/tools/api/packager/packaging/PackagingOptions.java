@@ -9,6 +9,8 @@
  */
 package org.mule.tools.api.packager.packaging;
 
+import java.nio.file.attribute.FileTime;
+
 public class PackagingOptions {
 
   private final boolean onlyMuleSources;
@@ -17,6 +19,7 @@ public class PackagingOptions {
   private final boolean testPackage;
 
   private boolean useLocalRepository;
+  private FileTime outputTimestamp;
 
   @Deprecated
   public PackagingOptions(boolean onlyMuleSources, boolean lightweightPackage, boolean attachMuleSources, boolean testPackage) {
@@ -51,4 +54,24 @@ public class PackagingOptions {
   public boolean isTestPackage() {
     return testPackage;
   }
+
+  /**
+   * @return the last modification time of the entries of a reproducible package, or {@code null} if the package is not
+   *         reproducible.
+   */
+  public FileTime getOutputTimestamp() {
+    return outputTimestamp;
+  }
+
+  /**
+   * @param outputTimestamp the last modification time of the entries of the package, which makes it reproducible. {@code null}
+   *                        keeps the actual times of the files.
+   */
+  public void setOutputTimestamp(FileTime outputTimestamp) {
+    this.outputTimestamp = outputTimestamp;
+  }
+
+  public boolean isReproducible() {
+    return outputTimestamp != null;
+  }
 }
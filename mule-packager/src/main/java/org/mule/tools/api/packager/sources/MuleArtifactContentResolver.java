@@ -9,15 +9,18 @@ package org.mule.tools.api.packager.sources;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.nio.file.Paths.get;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 
 import org.mule.maven.pom.parser.api.model.BundleDependency;
 import org.mule.tools.api.packager.Pom;
 import org.mule.tools.api.packager.structure.ProjectStructure;
 import org.mule.tools.api.util.XmlFactoryUtils;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -25,10 +28,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.filefilter.IOFileFilter;
@@ -37,15 +41,23 @@ import org.apache.commons.io.filefilter.TrueFileFilter;
 import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.xml.sax.SAXException;
 
 /**
  * Resolves the content of resources defined in mule-artifact.json based on the project base folder.
  */
 public class MuleArtifactContentResolver {
 
-  private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = XmlFactoryUtils.createSecureDocumentBuilderFactory();
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
   private static final String CONFIG_FILE_EXTENSION = ".xml";
+  private static final String MULE_ROOT_ELEMENT = "mule";
+  private static final String MULE_DOMAIN_ROOT_ELEMENT = "domain:mule-domain";
+  private static final String NO_ROOT_ELEMENT = "";
+
+  /**
+   * Root elements of the XML files already read in this build, keyed by their absolute path. An entry is only reused while the
+   * file keeps the same size and last modification time.
+   */
+  private static final Map<Path, RootElement> ROOT_ELEMENTS = new ConcurrentHashMap<>();
   public static final String CLASS_PATH_SEPARATOR = "/";
 
   private final ProjectStructure projectStructure;
@@ -128,18 +140,15 @@ public class MuleArtifactContentResolver {
 
   public boolean isApplication() throws IOException {
     if (isApplication == null) {
-      isApplication = getResourcesWithDocument(projectStructure.getConfigsPath(), getConfigs()).entrySet().stream()
-          .noneMatch(entry -> hasMuleDomainAsRootElement(entry.getValue()));
+      Path configsPath = projectStructure.getConfigsPath();
+      isApplication = getConfigs().stream()
+          .noneMatch(config -> MULE_DOMAIN_ROOT_ELEMENT.equals(getRootElement(configsPath.resolve(config))));
     }
     return isApplication;
   }
 
   protected boolean hasMuleAsRootElement(Path path) {
-    try {
-      return hasMuleAsRootElement(DOCUMENT_BUILDER_FACTORY.newDocumentBuilder().parse(path.toFile()));
-    } catch (IOException | ParserConfigurationException | SAXException e) {
-      throw new RuntimeException(e);
-    }
+    return isMuleRootElement(getRootElement(path));
   }
 
   protected boolean hasMuleAsRootElement(Document doc) {
@@ -147,11 +156,11 @@ public class MuleArtifactContentResolver {
   }
 
   protected boolean hasMuleAppAsRootElement(Document doc) {
-    return hasTagNameAsRootElement(doc, "mule");
+    return hasTagNameAsRootElement(doc, MULE_ROOT_ELEMENT);
   }
 
   protected boolean hasMuleDomainAsRootElement(Document doc) {
-    return hasTagNameAsRootElement(doc, "domain:mule-domain");
+    return hasTagNameAsRootElement(doc, MULE_DOMAIN_ROOT_ELEMENT);
   }
 
   protected boolean hasTagNameAsRootElement(Document doc, String tagName) {
@@ -164,11 +173,9 @@ public class MuleArtifactContentResolver {
 
   private List<String> getMuleResources(Path path) {
     try {
-      return getResourcesWithDocument(path, getResources(path, new SuffixFileFilter(CONFIG_FILE_EXTENSION)))
-          .entrySet()
+      return getResources(path, new SuffixFileFilter(CONFIG_FILE_EXTENSION))
           .stream()
-          .filter(entry -> hasMuleAsRootElement(entry.getValue()))
-          .map(Map.Entry::getKey)
+          .filter(resource -> isMuleRootElement(getRootElement(path.resolve(resource))))
           .collect(toList());
     } catch (Exception exception) {
       throw new RuntimeException(exception);
@@ -191,15 +198,61 @@ public class MuleArtifactContentResolver {
     return getResources(resourcesFolderPath, TrueFileFilter.INSTANCE);
   }
 
-  private Map<String, Document> getResourcesWithDocument(Path path, Collection<String> resources) {
-    return resources.stream()
-        .collect(toMap(Function.identity(), resource -> {
-          try {
-            return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder().parse(path.resolve(resource).toFile());
-          } catch (Exception exception) {
-            throw new RuntimeException(exception);
+  private static boolean isMuleRootElement(String rootElement) {
+    return MULE_ROOT_ELEMENT.equals(rootElement) || MULE_DOMAIN_ROOT_ELEMENT.equals(rootElement);
+  }
+
+  /**
+   * Returns the qualified name of the root element of an XML file, reusing the result of a previous read if the file did not
+   * change.
+   */
+  private static String getRootElement(Path path) {
+    File file = path.toFile();
+    Path key = file.getAbsoluteFile().toPath();
+    long lastModified = file.lastModified();
+    long length = file.length();
+    RootElement rootElement = ROOT_ELEMENTS.get(key);
+    if (rootElement == null || rootElement.lastModified != lastModified || rootElement.length != length) {
+      rootElement = new RootElement(lastModified, length, readRootElement(file));
+      ROOT_ELEMENTS.put(key, rootElement);
+    }
+    return rootElement.name;
+  }
+
+  /**
+   * Reads the root element of an XML file without building its DOM. Reading stops at the root element unless it is a Mule
+   * root element, in which case the rest of the file is streamed so malformed configs are still reported.
+   */
+  private static String readRootElement(File file) {
+    try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+      XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+      try {
+        while (reader.hasNext()) {
+          if (reader.next() == START_ELEMENT) {
+            String rootElement = StringUtils.isEmpty(reader.getPrefix()) ? reader.getLocalName()
+                : reader.getPrefix() + ":" + reader.getLocalName();
+            if (isMuleRootElement(rootElement)) {
+              while (reader.hasNext()) {
+                reader.next();
+              }
+            }
+            return rootElement;
           }
-        }));
+        }
+        return NO_ROOT_ELEMENT;
+      } finally {
+        reader.close();
+      }
+    } catch (IOException | XMLStreamException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static XMLInputFactory createXmlInputFactory() {
+    XMLInputFactory factory = XmlFactoryUtils.createSecureXMLInputFactory();
+    // Root elements are matched by their qualified name, as written in the file
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    return factory;
   }
 
   /**
@@ -239,4 +292,17 @@ public class MuleArtifactContentResolver {
   public Pom getPom() {
     return this.pom;
   }
+
+  private static class RootElement {
+
+    private final long lastModified;
+    private final long length;
+    private final String name;
+
+    RootElement(long lastModified, long length, String name) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.name = name;
+    }
+  }
 }
@@ -108,7 +108,8 @@ public class MuleContentGenerator extends ContentGenerator {
 
   /**
    * It creates the {@link org.mule.tools.api.packager.structure.FolderNames#MULE_SRC} folder used by IDEs to import the project
-   * source code
+   * source code. Only the files that changed since the previous build are copied, and the ones removed from the project are
+   * deleted.
    *
    * @throws IOException
    */
@@ -120,7 +121,7 @@ public class MuleContentGenerator extends ContentGenerator {
     List<Path> exclusions = new ArrayList<>();
     exclusions.add(projectInformation.getBuildDirectory());
 
-    copyContent(originPath, destinationPath, Optional.of(exclusions), true, true, true, true);
+    copyContent(originPath, destinationPath, Optional.of(exclusions), true, true, true, true, true);
   }
 
   /**
@@ -170,11 +171,12 @@ public class MuleContentGenerator extends ContentGenerator {
   private void copyContent(Path originPath, Path destinationPath, Optional<List<Path>> exclusions, Boolean validateOrigin,
                            Boolean validateDestination)
       throws IOException {
-    copyContent(originPath, destinationPath, exclusions, validateOrigin, validateDestination, FALSE, FALSE);
+    copyContent(originPath, destinationPath, exclusions, validateOrigin, validateDestination, FALSE, FALSE, FALSE);
   }
 
   private void copyContent(Path originPath, Path destinationPath, Optional<List<Path>> exclusions, Boolean validateOrigin,
-                           Boolean validateDestination, Boolean ignoreHiddenFiles, Boolean ignoreHiddenFolders)
+                           Boolean validateDestination, Boolean ignoreHiddenFiles, Boolean ignoreHiddenFolders,
+                           Boolean synchronize)
       throws IOException {
     if (validateOrigin) {
       checkPathExist(originPath);
@@ -188,6 +190,7 @@ public class MuleContentGenerator extends ContentGenerator {
         new CopyFileVisitor(originPath.toFile(), destinationPath.toFile(), ignoreHiddenFiles, ignoreHiddenFolders,
                             new MuleExclusionMatcher(projectInformation.getProjectBaseFolder()));
     exclusions.ifPresent(e -> visitor.setExclusions(e));
+    visitor.setSynchronize(synchronize);
 
     Files.walkFileTree(originPath, visitor);
   }
@@ -8,7 +8,10 @@ package org.mule.tools.api.repository;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.FileUtils.copyFile;
+import static org.mule.tools.api.classloader.ClassLoaderModelJsonSerializer.serialize;
+import static org.mule.tools.api.classloader.Constants.CLASSLOADER_MODEL_FILE_NAME;
 import static org.mule.tools.api.packager.structure.FolderNames.REPOSITORY;
 import org.mule.tools.api.classloader.model.Artifact;
 import org.mule.tools.api.classloader.model.ClassLoaderModel;
@@ -17,16 +20,42 @@ import org.mule.tools.api.util.PackagerLog;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
 public class ArtifactInstaller {
 
+  /**
+   * System property that enables installing the artifact files as hard links to the files they are resolved from, e.g. in the
+   * local Maven repository, instead of copying them. If the link cannot be created, e.g. because both files are not in the same
+   * file system, the file is copied.
+   */
+  public static final String LINK_ARTIFACTS_PROPERTY = "mule.artifactInstaller.linkArtifacts";
+
   private static final String POM_FILE_NAME = "pom.xml";
   private PackagerLog log;
+  private final boolean linkArtifacts;
 
   public ArtifactInstaller(PackagerLog log) {
+    this(log, Boolean.getBoolean(LINK_ARTIFACTS_PROPERTY));
+  }
+
+  /**
+   * @param log           the log to use.
+   * @param linkArtifacts if {@code true} the artifact files are installed as hard links to the resolved files when possible. The
+   *                      linked files share their content, so they must not be modified in place.
+   */
+  public ArtifactInstaller(PackagerLog log, boolean linkArtifacts) {
     this.log = log;
+    this.linkArtifacts = linkArtifacts;
   }
 
   @Deprecated
@@ -38,6 +67,23 @@ public class ArtifactInstaller {
   public void installArtifact(File repositoryFile, Artifact artifact, Optional<ClassLoaderModel> classLoaderModel,
                               boolean prettyPrinting)
       throws IOException {
+    installArtifact(repositoryFile, artifact, classLoaderModel, prettyPrinting, null);
+  }
+
+  /**
+   * Installs an artifact in the application repository folder.
+   *
+   * @param repositoryFile     the application repository folder.
+   * @param artifact           the artifact to install.
+   * @param classLoaderModel   the classloader model of the artifact, if it is a mule-plugin.
+   * @param prettyPrinting     if {@code true} the classloader-model.json will be printed with pretty print mode.
+   * @param repositoryManifest manifest of the previous installation used to skip the files that did not change. If
+   *                           {@code null} every file is written.
+   * @throws IOException if the artifact cannot be installed.
+   */
+  public void installArtifact(File repositoryFile, Artifact artifact, Optional<ClassLoaderModel> classLoaderModel,
+                              boolean prettyPrinting, RepositoryManifest repositoryManifest)
+      throws IOException {
     checkArgument(artifact != null, "Artifact to be installed should not be null");
     File artifactFolderDestination = artifact.getFormattedMavenDirectory(repositoryFile);
 
@@ -46,8 +92,14 @@ public class ArtifactInstaller {
     }
 
     try {
-      generateArtifactFile(artifact, artifactFolderDestination, repositoryFile);
-      generateDependencyDescriptorFile(artifact, artifactFolderDestination, classLoaderModel, prettyPrinting);
+      if (repositoryManifest == null) {
+        generateArtifactFile(artifact, artifactFolderDestination, repositoryFile);
+        generateDependencyDescriptorFile(artifact, artifactFolderDestination, classLoaderModel, prettyPrinting);
+      } else {
+        generateArtifactFile(artifact, artifactFolderDestination, repositoryFile, repositoryManifest);
+        generateDependencyDescriptorFile(artifact, artifactFolderDestination, classLoaderModel, prettyPrinting,
+                                         repositoryManifest);
+      }
     } catch (IOException e) {
       throw new IOException(
                             format("There was a problem while copying the artifact [%s] file [%s] to the application local repository",
@@ -66,7 +118,71 @@ public class ArtifactInstaller {
                          .replaceFirst(Pattern.quote(repositoryFile.getAbsolutePath()),
                                        "")));
 
-    copyFile(new File(artifact.getUri()), destinationArtifactFile);
+    File sourceArtifactFile = new File(artifact.getUri());
+    // The destination may be a link installed by a previous build, copying over it would modify the file it links to
+    Files.deleteIfExists(destinationArtifactFile.toPath());
+    if (linkArtifacts && link(sourceArtifactFile, destinationArtifactFile)) {
+      return;
+    }
+    copyFile(sourceArtifactFile, destinationArtifactFile);
+  }
+
+  private boolean link(File source, File destination) {
+    try {
+      Files.createLink(destination.toPath(), source.toPath());
+      return true;
+    } catch (IOException | UnsupportedOperationException | SecurityException e) {
+      log.debug(format("Cannot link <%s>, copying it instead: %s", source.getAbsolutePath(), e.getMessage()));
+      return false;
+    }
+  }
+
+  private void generateArtifactFile(Artifact artifact, File artifactFolderDestination, File repositoryFile,
+                                    RepositoryManifest repositoryManifest)
+      throws IOException {
+    File sourceArtifactFile = new File(artifact.getUri());
+    File destinationArtifactFile = new File(artifactFolderDestination, artifact.getFormattedArtifactFileName());
+    if (repositoryManifest.isUpToDate(destinationArtifactFile, sourceArtifactFile)) {
+      log.debug(format("Artifact <%s> is up to date", artifact));
+      return;
+    }
+    generateArtifactFile(artifact, artifactFolderDestination, repositoryFile);
+    repositoryManifest.recordCopy(artifact.toString(), destinationArtifactFile, sourceArtifactFile);
+  }
+
+  private void generateDependencyDescriptorFile(Artifact artifact, File artifactFolderDestination,
+                                                Optional<ClassLoaderModel> classLoaderModel, boolean prettyPrinting,
+                                                RepositoryManifest repositoryManifest)
+      throws IOException {
+    if (classLoaderModel.isPresent()) {
+      File destinationFile = new File(artifactFolderDestination, CLASSLOADER_MODEL_FILE_NAME);
+      HashCode checksum = checksum(classLoaderModel.get(), prettyPrinting);
+      if (!repositoryManifest.isUpToDate(destinationFile, checksum)) {
+        generateClassloderModelFile(classLoaderModel.get(), artifactFolderDestination, prettyPrinting);
+        repositoryManifest.recordContent(artifact.toString(), destinationFile, checksum);
+      }
+    } else {
+      Optional<File> srcPomFile = getSourcePomFile(artifact);
+      if (srcPomFile.isPresent()) {
+        File destinationPomFile = new File(artifactFolderDestination, artifact.getPomFileName());
+        if (!repositoryManifest.isUpToDate(destinationPomFile, srcPomFile.get())) {
+          generatePomFile(artifact, artifactFolderDestination);
+          repositoryManifest.recordCopy(artifact.toString(), destinationPomFile, srcPomFile.get());
+        }
+      }
+    }
+  }
+
+  /**
+   * Computes the checksum of the JSON representation of the classloader model while it is serialized, without holding it in
+   * memory.
+   */
+  private HashCode checksum(ClassLoaderModel classLoaderModel, boolean prettyPrinting) throws IOException {
+    Hasher hasher = Hashing.sha256().newHasher();
+    try (Writer writer = new OutputStreamWriter(Funnels.asOutputStream(hasher), UTF_8)) {
+      serialize(classLoaderModel, prettyPrinting, writer);
+    }
+    return hasher.hash();
   }
 
   @Deprecated
@@ -87,16 +203,20 @@ public class ArtifactInstaller {
   }
 
   protected void generatePomFile(Artifact artifact, File artifactFolderDestination) throws IOException {
+    Optional<File> srcPomFile = getSourcePomFile(artifact);
+    if (srcPomFile.isPresent()) {
+      copyFile(srcPomFile.get(), new File(artifactFolderDestination, artifact.getPomFileName()));
+    }
+  }
+
+  private Optional<File> getSourcePomFile(Artifact artifact) {
     String artifactPomFilename = artifact.getPomFileName();
     File srcPomFolder = new File(artifact.getUri()).getParentFile();
     File srcPomFile = new File(srcPomFolder, artifactPomFilename);
-    File destinationPomFile = new File(artifactFolderDestination, artifactPomFilename);
     if (!srcPomFile.exists()) {
       srcPomFile = new File(srcPomFolder, POM_FILE_NAME);
     }
-    if (srcPomFile.exists()) {
-      copyFile(srcPomFile, destinationPomFile);
-    }
+    return srcPomFile.exists() ? Optional.of(srcPomFile) : Optional.empty();
   }
 
   @Deprecated
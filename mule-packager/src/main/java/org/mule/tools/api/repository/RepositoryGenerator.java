@@ -12,6 +12,7 @@ import static org.mule.tools.api.packager.sources.MuleContentGenerator.createCla
 import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
 import static org.mule.tools.api.packager.structure.FolderNames.MULE_ARTIFACT;
 import static org.mule.tools.api.packager.structure.FolderNames.REPOSITORY;
+import static org.mule.tools.api.repository.RepositoryManifest.REPOSITORY_MANIFEST_FILE_NAME;
 
 import org.mule.maven.client.api.MavenReactorResolver;
 import org.mule.tools.api.classloader.model.*;
@@ -21,11 +22,16 @@ import org.mule.tools.api.util.FileUtils;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -33,6 +39,12 @@ import org.apache.commons.lang3.StringUtils;
 
 public class RepositoryGenerator {
 
+  /**
+   * System property that defines how many artifacts are installed concurrently in the application repository. A value of 1
+   * installs them sequentially.
+   */
+  public static final String INSTALL_THREADS_PROPERTY = "mule.repository.installThreads";
+
   private static final String PROVIDED_SCOPE = "provided";
   private final ArtifactInstaller artifactInstaller;
   private final ApplicationClassLoaderModelAssembler applicationClassLoaderModelAssembler;
@@ -125,13 +137,81 @@ public class RepositoryGenerator {
     if (sortedArtifacts.isEmpty()) {
       generateMarkerFileInRepositoryFolder(repositoryFile);
     }
+
+    // Artifacts sharing a destination folder (e.g. same GAV with different classifiers) may write the same pom file, so they
+    // are installed sequentially, in the same order as before, by a single task
+    Map<File, List<Artifact>> artifactsByFolder = new LinkedHashMap<>();
     for (Artifact artifact : sortedArtifacts) {
+      artifactsByFolder.computeIfAbsent(artifact.getFormattedMavenDirectory(repositoryFile), folder -> new ArrayList<>())
+          .add(artifact);
+    }
+
+    // Files that did not change since the previous generation are kept, and the ones no longer needed are removed
+    RepositoryManifest manifest = RepositoryManifest.load(new File(outputDirectory, REPOSITORY_MANIFEST_FILE_NAME), repositoryFile);
+
+    int threads = Math.min(getInstallThreads(), artifactsByFolder.size());
+    if (threads <= 1) {
+      for (List<Artifact> artifacts : artifactsByFolder.values()) {
+        installArtifacts(repositoryFile, installer, artifacts, mulePluginsClassloaderModels, prettyPrinting, manifest);
+      }
+    } else {
+      ExecutorService executorService = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<?>> installations = new ArrayList<>();
+        for (List<Artifact> artifacts : artifactsByFolder.values()) {
+          installations.add(executorService.submit(() -> {
+            installArtifacts(repositoryFile, installer, artifacts, mulePluginsClassloaderModels, prettyPrinting, manifest);
+            return null;
+          }));
+        }
+        for (Future<?> installation : installations) {
+          waitForInstallation(installation);
+        }
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+
+    manifest.commit();
+  }
+
+  private void installArtifacts(File repositoryFile, ArtifactInstaller installer, List<Artifact> artifacts,
+                                Map<ArtifactCoordinates, ClassLoaderModel> mulePluginsClassloaderModels, boolean prettyPrinting,
+                                RepositoryManifest manifest)
+      throws IOException {
+    for (Artifact artifact : artifacts) {
       Optional<ClassLoaderModel> classLoaderModelOptional =
           Optional.ofNullable(mulePluginsClassloaderModels.get(artifact.getArtifactCoordinates()));
-      installer.installArtifact(repositoryFile, artifact, classLoaderModelOptional, prettyPrinting);
+      installer.installArtifact(repositoryFile, artifact, classLoaderModelOptional, prettyPrinting, manifest);
+    }
+  }
+
+  private void waitForInstallation(Future<?> installation) throws IOException {
+    try {
+      installation.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while installing artifacts in the application repository", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
     }
   }
 
+  /**
+   * @return the maximum number of artifacts installed concurrently, defined by {@value #INSTALL_THREADS_PROPERTY}. Defaults to
+   *         the number of available processors.
+   */
+  protected int getInstallThreads() {
+    return Integer.getInteger(INSTALL_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+  }
+
   private Set<Artifact> removeProvidedArtifacts(Set<Artifact> artifacts) {
     return artifacts.stream()
         .filter(artifact -> !StringUtils.equals(artifact.getArtifactCoordinates().getScope(), PROVIDED_SCOPE))
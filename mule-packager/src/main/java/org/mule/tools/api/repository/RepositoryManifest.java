@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.repository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.hash.HashCode;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+/**
+ * Keeps track of the files installed in the application repository folder so a later generation only copies, rewrites or
+ * deletes the entries that changed.
+ * <p>
+ * Each entry is keyed by the path of the installed file relative to the repository folder and records the GAV it belongs to,
+ * the size and last modification time of the file it was copied from, or the checksum of its content if it was generated.
+ * <p>
+ * Instances are thread safe.
+ */
+public class RepositoryManifest {
+
+  public static final String REPOSITORY_MANIFEST_FILE_NAME = "repository-manifest.json";
+
+  private static final int MANIFEST_VERSION = 1;
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+  private final File manifestFile;
+  private final File repositoryFolder;
+  private final Map<String, Entry> previousEntries;
+  private final Map<String, Entry> currentEntries = new ConcurrentHashMap<>();
+
+  private RepositoryManifest(File manifestFile, File repositoryFolder, Map<String, Entry> previousEntries) {
+    this.manifestFile = manifestFile;
+    this.repositoryFolder = repositoryFolder;
+    this.previousEntries = previousEntries;
+  }
+
+  /**
+   * Loads the manifest of a previous generation. If the manifest does not exist or cannot be read an empty one is returned,
+   * which makes every file to be installed again.
+   *
+   * @param manifestFile     file where the manifest is stored.
+   * @param repositoryFolder the application repository folder the manifest describes.
+   * @return the loaded manifest.
+   */
+  public static RepositoryManifest load(File manifestFile, File repositoryFolder) {
+    Map<String, Entry> previousEntries = new ConcurrentHashMap<>();
+    if (manifestFile.isFile()) {
+      try (Reader reader = Files.newBufferedReader(manifestFile.toPath(), UTF_8)) {
+        Manifest manifest = GSON.fromJson(reader, Manifest.class);
+        if (manifest != null && manifest.version == MANIFEST_VERSION && manifest.entries != null) {
+          previousEntries.putAll(manifest.entries);
+        }
+      } catch (IOException | JsonParseException e) {
+        // An unreadable manifest only means that everything is installed again
+      }
+    }
+    return new RepositoryManifest(manifestFile, repositoryFolder, previousEntries);
+  }
+
+  /**
+   * Checks if a file copied in a previous generation can be kept as is. In that case the entry is carried over to this
+   * generation.
+   *
+   * @param target the file in the repository folder.
+   * @param source the file it is copied from.
+   * @return {@code true} if the target was copied from the same, unmodified, source file.
+   */
+  public boolean isUpToDate(File target, File source) {
+    String path = relativize(target);
+    Entry previous = previousEntries.get(path);
+    if (previous == null || previous.checksum != null || !target.isFile()
+        || !Objects.equals(previous.source, source.getAbsolutePath())
+        || previous.size != source.length() || previous.lastModified != source.lastModified()
+        || target.length() != source.length()) {
+      return false;
+    }
+    currentEntries.put(path, previous);
+    return true;
+  }
+
+  /**
+   * Checks if a file generated in a previous generation has the same content. In that case the entry is carried over to this
+   * generation.
+   *
+   * @param target   the file in the repository folder.
+   * @param checksum the SHA-256 checksum of the content that would be written.
+   * @return {@code true} if the target was generated with the same content.
+   */
+  public boolean isUpToDate(File target, HashCode checksum) {
+    String path = relativize(target);
+    Entry previous = previousEntries.get(path);
+    if (previous == null || !target.isFile() || !Objects.equals(previous.checksum, checksum.toString())) {
+      return false;
+    }
+    currentEntries.put(path, previous);
+    return true;
+  }
+
+  /**
+   * Records a file copied into the repository folder.
+   */
+  public void recordCopy(String gav, File target, File source) {
+    Entry entry = new Entry();
+    entry.gav = gav;
+    entry.source = source.getAbsolutePath();
+    entry.size = source.length();
+    entry.lastModified = source.lastModified();
+    currentEntries.put(relativize(target), entry);
+  }
+
+  /**
+   * Records a file generated in the repository folder.
+   *
+   * @param checksum the SHA-256 checksum of the generated content.
+   */
+  public void recordContent(String gav, File target, HashCode checksum) {
+    Entry entry = new Entry();
+    entry.gav = gav;
+    entry.checksum = checksum.toString();
+    currentEntries.put(relativize(target), entry);
+  }
+
+  /**
+   * Deletes the files installed by the previous generation that were not installed by this one, and stores the manifest.
+   *
+   * @throws IOException if the manifest cannot be written.
+   */
+  public void commit() throws IOException {
+    Set<String> stalePaths = new HashSet<>(previousEntries.keySet());
+    stalePaths.removeAll(currentEntries.keySet());
+    for (String stalePath : stalePaths) {
+      File staleFile = new File(repositoryFolder, stalePath);
+      Files.deleteIfExists(staleFile.toPath());
+      deleteEmptyParents(staleFile);
+    }
+
+    Manifest manifest = new Manifest();
+    manifest.version = MANIFEST_VERSION;
+    manifest.entries = new TreeMap<>(currentEntries);
+    manifestFile.getParentFile().mkdirs();
+    try (Writer writer = Files.newBufferedWriter(manifestFile.toPath(), UTF_8)) {
+      GSON.toJson(manifest, writer);
+    }
+  }
+
+  private void deleteEmptyParents(File file) {
+    File parent = file.getParentFile();
+    while (parent != null && !parent.equals(repositoryFolder) && parent.delete()) {
+      parent = parent.getParentFile();
+    }
+  }
+
+  private String relativize(File target) {
+    return repositoryFolder.toPath().relativize(target.toPath()).toString().replace(File.separatorChar, '/');
+  }
+
+  private static class Manifest {
+
+    private int version;
+    private Map<String, Entry> entries;
+  }
+
+  private static class Entry {
+
+    private String gav;
+    private String source;
+    private long size;
+    private long lastModified;
+    private String checksum;
+  }
+}
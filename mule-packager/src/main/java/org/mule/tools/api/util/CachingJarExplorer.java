@@ -0,0 +1,213 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * {@link JarExplorer} that caches the result of exploring JAR files, both in memory and on disk so it is shared across modules
+ * and builds. Entries are keyed by the absolute path, size and last modification time of the JAR, so a JAR that is rewritten is
+ * explored again. Folders are never cached as their content may change between invocations.
+ * <p>
+ * When a repository folder is given only the JARs inside it are cached, as JARs built in the reactor are rewritten on every build
+ * and would otherwise add a new entry each time.
+ */
+public class CachingJarExplorer implements JarExplorer {
+
+  /**
+   * System property to override the folder where explored JARs are stored.
+   */
+  public static final String CACHE_DIRECTORY_PROPERTY = "mule.jarExplorer.cacheDirectory";
+
+  /**
+   * System property to disable the on disk cache. The in memory cache is still used.
+   */
+  public static final String DISABLE_DISK_CACHE_PROPERTY = "mule.jarExplorer.disableDiskCache";
+
+  /**
+   * Version of the format of the entries stored on disk. Must be increased whenever the {@link JarInfo} computed for a JAR
+   * changes, so entries written by previous versions are not used.
+   */
+  private static final String CACHE_FORMAT_VERSION = "v1";
+
+  private static final String JAR_EXTENSION = ".jar";
+  private static final String CACHE_ENTRY_EXTENSION = ".json";
+  private static final Gson GSON = new Gson();
+
+  private static volatile CachingJarExplorer defaultInstance;
+
+  private final Map<String, JarInfo> memoryCache = new ConcurrentHashMap<>();
+  private final JarExplorer delegate;
+  private final File cacheDirectory;
+  private final Path repositoryFolder;
+
+  /**
+   * Creates a new instance that caches every JAR.
+   *
+   * @param delegate explorer used to explore JARs that are not cached yet. Non null.
+   * @param cacheDirectory folder where explored JARs are persisted. If null only the in memory cache is used.
+   */
+  public CachingJarExplorer(JarExplorer delegate, File cacheDirectory) {
+    this(delegate, cacheDirectory, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param delegate explorer used to explore JARs that are not cached yet. Non null.
+   * @param cacheDirectory folder where explored JARs are persisted. If null only the in memory cache is used.
+   * @param repositoryFolder folder whose JARs are cached, the rest are always explored. If null every JAR is cached.
+   */
+  public CachingJarExplorer(JarExplorer delegate, File cacheDirectory, File repositoryFolder) {
+    this.delegate = delegate;
+    this.cacheDirectory = cacheDirectory;
+    this.repositoryFolder = repositoryFolder != null ? repositoryFolder.getAbsoluteFile().toPath().normalize() : null;
+  }
+
+  /**
+   * @return a shared instance backed by a {@link FileJarExplorer} that caches the JARs of the local Maven repository and stores
+   *         its entries in the folder defined by {@link #CACHE_DIRECTORY_PROPERTY}, or {@code ~/.m2/mule-jar-explorer-cache} if
+   *         not defined.
+   */
+  public static JarExplorer getDefault() {
+    if (defaultInstance == null) {
+      synchronized (CachingJarExplorer.class) {
+        if (defaultInstance == null) {
+          defaultInstance =
+              new CachingJarExplorer(new FileJarExplorer(), getDefaultCacheDirectory(), getDefaultRepositoryFolder());
+        }
+      }
+    }
+    return defaultInstance;
+  }
+
+  private static File getDefaultRepositoryFolder() {
+    String localRepository = System.getProperty("maven.repo.local");
+    if (localRepository != null) {
+      return new File(localRepository);
+    }
+    return new File(new File(System.getProperty("user.home"), ".m2"), "repository");
+  }
+
+  private static File getDefaultCacheDirectory() {
+    if (Boolean.getBoolean(DISABLE_DISK_CACHE_PROPERTY)) {
+      return null;
+    }
+    String cacheDirectory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+    if (cacheDirectory != null) {
+      return new File(cacheDirectory);
+    }
+    return new File(new File(System.getProperty("user.home"), ".m2"), "mule-jar-explorer-cache");
+  }
+
+  @Override
+  public JarInfo explore(URI library) {
+    File libraryFile = new File(library);
+    if (!libraryFile.isFile() || !libraryFile.getName().toLowerCase().endsWith(JAR_EXTENSION) || !isCacheable(libraryFile)) {
+      return delegate.explore(library);
+    }
+
+    String key = getCacheKey(libraryFile);
+    JarInfo jarInfo = memoryCache.get(key);
+    if (jarInfo == null) {
+      jarInfo = readFromDisk(key);
+      if (jarInfo == null) {
+        jarInfo = delegate.explore(library);
+        writeToDisk(key, jarInfo);
+      }
+      memoryCache.put(key, jarInfo);
+    }
+    return copyOf(jarInfo);
+  }
+
+  private boolean isCacheable(File libraryFile) {
+    return repositoryFolder == null || libraryFile.getAbsoluteFile().toPath().normalize().startsWith(repositoryFolder);
+  }
+
+  private String getCacheKey(File libraryFile) {
+    String fingerprint = libraryFile.getAbsolutePath() + '|' + libraryFile.length() + '|' + libraryFile.lastModified();
+    return CACHE_FORMAT_VERSION + '-' + Hashing.sha256().hashString(fingerprint, UTF_8);
+  }
+
+  private JarInfo readFromDisk(String key) {
+    if (cacheDirectory == null) {
+      return null;
+    }
+    Path entry = cacheDirectory.toPath().resolve(key + CACHE_ENTRY_EXTENSION);
+    if (!Files.isRegularFile(entry)) {
+      return null;
+    }
+    try (Reader reader = Files.newBufferedReader(entry, UTF_8)) {
+      CacheEntry cacheEntry = GSON.fromJson(reader, CacheEntry.class);
+      if (cacheEntry == null || cacheEntry.packages == null || cacheEntry.resources == null) {
+        return null;
+      }
+      return new JarInfo(cacheEntry.packages, cacheEntry.resources);
+    } catch (IOException | JsonParseException e) {
+      // A corrupted entry is treated as a cache miss and will be overwritten
+      return null;
+    }
+  }
+
+  private void writeToDisk(String key, JarInfo jarInfo) {
+    if (cacheDirectory == null) {
+      return;
+    }
+    try {
+      Files.createDirectories(cacheDirectory.toPath());
+      Path entry = cacheDirectory.toPath().resolve(key + CACHE_ENTRY_EXTENSION);
+      Path temporaryEntry = Files.createTempFile(cacheDirectory.toPath(), key, ".tmp");
+      try {
+        try (Writer writer = Files.newBufferedWriter(temporaryEntry, UTF_8)) {
+          GSON.toJson(new CacheEntry(jarInfo), writer);
+        }
+        try {
+          Files.move(temporaryEntry, entry, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(temporaryEntry, entry, REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(temporaryEntry);
+      }
+    } catch (IOException e) {
+      // The cache is an optimization, failing to persist an entry must not break the build
+    }
+  }
+
+  private JarInfo copyOf(JarInfo jarInfo) {
+    return new JarInfo(new TreeSet<>(jarInfo.getPackages()), new TreeSet<>(jarInfo.getResources()));
+  }
+
+  private static class CacheEntry {
+
+    private TreeSet<String> packages;
+    private TreeSet<String> resources;
+
+    CacheEntry(JarInfo jarInfo) {
+      this.packages = new TreeSet<>(jarInfo.getPackages());
+      this.resources = new TreeSet<>(jarInfo.getResources());
+    }
+  }
+}
@@ -9,13 +9,19 @@ package org.mule.tools.api.util;
 import org.mule.tools.api.util.exclude.MuleExclusionMatcher;
 
 import static java.lang.Boolean.FALSE;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apache.commons.io.FileUtils.forceDelete;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class CopyFileVisitor implements FileVisitor<Path> {
 
@@ -25,10 +31,14 @@ public class CopyFileVisitor implements FileVisitor<Path> {
   private Boolean ignoreHiddenFiles;
   private Boolean ignoreHiddenFolders;
 
-  private List<Path> exclusions = Collections.emptyList();
+  private Set<Path> exclusions = Collections.emptySet();
 
   private PathMatcher exclusionMatcher;
 
+  private boolean synchronize = false;
+
+  private final Set<Path> visitedTargets = new HashSet<>();
+
   public CopyFileVisitor(File fromFolder, File targetFolder) throws IOException {
     this(fromFolder, targetFolder, FALSE, FALSE, new MuleExclusionMatcher());
   }
@@ -51,16 +61,34 @@ public class CopyFileVisitor implements FileVisitor<Path> {
   }
 
   public void setExclusions(List<Path> exclusions) {
-    this.exclusions = exclusions;
+    this.exclusions = new HashSet<>(exclusions);
+  }
+
+  /**
+   * When enabled, the target folder is synchronized with the origin instead of overwritten: files whose size and last
+   * modification time did not change since the previous copy are not copied again, and the entries of the target folder that no
+   * longer exist in the origin, or are now excluded, are deleted.
+   *
+   * @param synchronize whether the target folder is synchronized.
+   */
+  public void setSynchronize(boolean synchronize) {
+    this.synchronize = synchronize;
   }
 
   @Override
   public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-    if (exclusionMatcher.matches(dir) || exclusions.contains(dir) || (ignoreHiddenFolders && dir.toFile().isHidden())) {
+    // Excluded folders are pruned here, so nothing below them is visited
+    if (exclusions.contains(dir) || exclusionMatcher.matches(dir) || (ignoreHiddenFolders && dir.toFile().isHidden())) {
       return FileVisitResult.SKIP_SUBTREE;
     }
 
-    Path targetPath = targetFolder.toPath().resolve(fromFolder.toPath().relativize(dir));
+    Path targetPath = getTargetPath(dir);
+    if (synchronize) {
+      visitedTargets.add(targetPath);
+      if (Files.exists(targetPath) && !Files.isDirectory(targetPath)) {
+        forceDelete(targetPath.toFile());
+      }
+    }
     if (!Files.exists(targetPath)) {
       Files.createDirectory(targetPath);
     }
@@ -73,17 +101,64 @@ public class CopyFileVisitor implements FileVisitor<Path> {
       return FileVisitResult.SKIP_SUBTREE;
     }
 
-    Files.copy(file, targetFolder.toPath().resolve(fromFolder.toPath().relativize(file)), StandardCopyOption.REPLACE_EXISTING);
+    Path targetPath = getTargetPath(file);
+    if (!synchronize) {
+      Files.copy(file, targetPath, REPLACE_EXISTING);
+      return FileVisitResult.CONTINUE;
+    }
+
+    visitedTargets.add(targetPath);
+    if (Files.isDirectory(targetPath)) {
+      forceDelete(targetPath.toFile());
+    } else if (isUpToDate(targetPath, attrs)) {
+      return FileVisitResult.CONTINUE;
+    }
+    // The modification time is preserved so the next synchronization can tell the file did not change
+    Files.copy(file, targetPath, REPLACE_EXISTING, COPY_ATTRIBUTES);
     return FileVisitResult.CONTINUE;
   }
 
   @Override
   public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+    if (synchronize) {
+      // A previous copy of a file that cannot be read is kept
+      visitedTargets.add(getTargetPath(file));
+    }
     return FileVisitResult.CONTINUE;
   }
 
   @Override
   public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+    if (synchronize && exc == null) {
+      deleteStaleEntries(getTargetPath(dir));
+    }
     return FileVisitResult.CONTINUE;
   }
+
+  private Path getTargetPath(Path path) {
+    return targetFolder.toPath().resolve(fromFolder.toPath().relativize(path));
+  }
+
+  private boolean isUpToDate(Path targetPath, BasicFileAttributes attrs) throws IOException {
+    if (!Files.isRegularFile(targetPath)) {
+      return false;
+    }
+    BasicFileAttributes targetAttrs = Files.readAttributes(targetPath, BasicFileAttributes.class);
+    // Compared in milliseconds as file systems do not keep the same precision when the modification time is copied
+    return targetAttrs.size() == attrs.size() && attrs.lastModifiedTime() != null
+        && targetAttrs.lastModifiedTime().toMillis() == attrs.lastModifiedTime().toMillis();
+  }
+
+  private void deleteStaleEntries(Path targetDir) throws IOException {
+    if (!Files.isDirectory(targetDir)) {
+      return;
+    }
+    try (Stream<Path> entries = Files.list(targetDir)) {
+      for (Path entry : (Iterable<Path>) entries::iterator) {
+        if (!visitedTargets.contains(entry)) {
+          forceDelete(entry.toFile());
+        }
+      }
+    }
+  }
 }
@@ -15,11 +15,15 @@ import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.*;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.repository.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
 import org.mule.tools.api.classloader.model.ArtifactCoordinates;
 import org.mule.tools.api.exception.*;
 import org.mule.tools.api.exception.ProjectBuildingException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -30,6 +34,7 @@ public class MavenProjectBuilder implements org.mule.tools.api.util.ProjectBuild
   private static final String CREATION_ERROR_MESSAGE =
       "There was an issue while trying to create a maven project from the artifact [%s]";
   private static final String CREATION_SEVERAL_ERRORS_MESSAGE = CREATION_ERROR_MESSAGE + ", several FATAL errors were found";
+  private static final String PROJECTS_SESSION_KEY = MavenProjectBuilder.class.getName() + ".projects";
   private Log log;
   private MavenSession session;
   private ProjectBuilder projectBuilder;
@@ -40,6 +45,11 @@ public class MavenProjectBuilder implements org.mule.tools.api.util.ProjectBuild
 
   private ProjectBuildingRequest projectBuildingRequest;
 
+  /**
+   * Projects already built in this build, keyed by GAV.
+   */
+  private Map<String, Project> projects;
+
   public MavenProjectBuilder(Log log, MavenSession session,
                              ProjectBuilder projectBuilder,
                              RepositorySystem repositorySystem,
@@ -63,6 +73,22 @@ public class MavenProjectBuilder implements org.mule.tools.api.util.ProjectBuild
     for (ArtifactRepository artifactRepository : projectBuildingRequest.getRemoteRepositories()) {
       log.debug(format("Remote repository ID [%s], URL [%s]", artifactRepository.getId(), artifactRepository.getUrl()));
     }
+    projects = getSessionProjects();
+  }
+
+  /**
+   * Builders are created by each mojo, so the built projects are stored in the repository session to share them during the
+   * whole build. If there is no repository session they are only shared by this instance.
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, Project> getSessionProjects() {
+    RepositorySystemSession repositorySession = session.getRepositorySession();
+    SessionData sessionData = repositorySession != null ? repositorySession.getData() : null;
+    if (sessionData == null) {
+      return new ConcurrentHashMap<>();
+    }
+    sessionData.set(PROJECTS_SESSION_KEY, null, new ConcurrentHashMap<String, Project>());
+    return (Map<String, Project>) sessionData.get(PROJECTS_SESSION_KEY);
   }
 
   private MavenProject buildMavenProject(Dependency dependency) throws ProjectBuildingException {
@@ -113,6 +139,13 @@ public class MavenProjectBuilder implements org.mule.tools.api.util.ProjectBuild
 
   @Override
   public Project buildProject(ArtifactCoordinates artifactCoordinates) throws ProjectBuildingException {
-    return new DependencyProject(buildMavenProject(ArtifactUtils.toDependency(artifactCoordinates)));
+    String gav = artifactCoordinates.getGroupId() + ":" + artifactCoordinates.getArtifactId() + ":"
+        + artifactCoordinates.getVersion();
+    Project project = projects.get(gav);
+    if (project == null) {
+      project = new DependencyProject(buildMavenProject(ArtifactUtils.toDependency(artifactCoordinates)));
+      projects.put(gav, project);
+    }
+    return project;
   }
 }
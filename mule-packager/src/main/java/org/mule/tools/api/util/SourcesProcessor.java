@@ -9,6 +9,8 @@ package org.mule.tools.api.util;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Optional.empty;
 import static java.util.stream.Collectors.toList;
+import static org.mule.tools.api.muleclassloader.model.util.ArtifactUtils.getGroupAndArtifactIdKey;
+import static org.mule.tools.api.muleclassloader.model.util.ArtifactUtils.indexByGroupAndArtifactId;
 
 import org.mule.maven.client.api.MavenReactorResolver;
 
@@ -38,6 +40,7 @@ import org.mule.tools.api.validation.resolver.MulePluginResolver;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.maven.RepositoryUtils;
@@ -108,16 +111,17 @@ public class SourcesProcessor {
       ClassLoaderModel classLoaderModel =
           repositoryGenerator.generate(lightweightPackage, useLocalRepository, prettyPrinting, testJar, mavenReactorResolver);
 
+      Map<String, List<Artifact>> dependenciesIndex = indexByGroupAndArtifactId(classLoaderModel.getDependencies());
       for (SharedLibraryDependency sharedLibraryDependency : mavenComponents.getSharedLibraries()) {
-        classLoaderModel.getDependencies().stream()
-            .filter(dep -> dep.getArtifactCoordinates().getArtifactId().equals(sharedLibraryDependency.getArtifactId()) &&
-                dep.getArtifactCoordinates().getGroupId().equals(sharedLibraryDependency.getGroupId()))
-            .findFirst().ifPresent(dep -> {
-              if (!validateMuleRuntimeSharedLibrary(dep.getArtifactCoordinates().getArtifactId(),
-                                                    dep.getArtifactCoordinates().getGroupId())) {
-                dep.setShared(true);
-              }
-            });
+        List<Artifact> dependencies = dependenciesIndex.get(getGroupAndArtifactIdKey(sharedLibraryDependency.getGroupId(),
+                                                                                     sharedLibraryDependency.getArtifactId()));
+        if (dependencies != null) {
+          Artifact dep = dependencies.get(0);
+          if (!validateMuleRuntimeSharedLibrary(dep.getArtifactCoordinates().getArtifactId(),
+                                                dep.getArtifactCoordinates().getGroupId())) {
+            dep.setShared(true);
+          }
+        }
       }
 
       Project project = getProject(classLoaderModel);
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
 
 /**
  * Utility class that creates different XML Parsing factories with the external entity processing disabled, to prevent XXE
@@ -74,4 +75,16 @@ public class XmlFactoryUtils {
       throw new IllegalStateException(e);// should never happen
     }
   }
+
+  /**
+   * Creates a StAX input factory that does not process DTDs nor external entities.
+   *
+   * @return the factory created
+   */
+  public static XMLInputFactory createSecureXMLInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
 }
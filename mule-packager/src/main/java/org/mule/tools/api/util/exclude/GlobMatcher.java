@@ -35,13 +35,19 @@ class GlobMatcher implements PathMatcher {
 
   private static final String SYNTAX = "glob";
 
+  private final String pattern;
   private final PathMatcher matcher;
 
   public GlobMatcher(String pattern) {
     checkArgument(pattern != null, "Pattern should not be null");
+    this.pattern = pattern;
     matcher = getDefault().getPathMatcher(SYNTAX + ":" + pattern);
   }
 
+  public String getPattern() {
+    return pattern;
+  }
+
   /**
    * Checks if a given path matches the glob syntax.
    */
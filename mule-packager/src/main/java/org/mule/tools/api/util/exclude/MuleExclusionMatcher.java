@@ -11,17 +11,29 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.io.Files.readLines;
+import static java.nio.file.FileSystems.getDefault;
+import static java.util.Locale.ROOT;
+import static java.util.stream.Collectors.joining;
+import static org.apache.commons.lang3.StringUtils.containsAny;
+import static org.apache.commons.lang3.StringUtils.containsNone;
 
 /**
  * Matcher for mule exclusions.
  * 
  * Parses the _muleExclusion file present in the project base folder to create a list of path matchers. The file must contain
  * pathnames specified in a glob pattern. By default, .classpath and .project files always match against this matcher.
+ * <p>
+ * The patterns are compiled once: plain file names are looked up in a set, and the rest of the patterns are combined into a
+ * single glob group, so each path is checked against one expression instead of one per line of the file.
  */
 public class MuleExclusionMatcher implements PathMatcher {
 
@@ -29,10 +41,19 @@ public class MuleExclusionMatcher implements PathMatcher {
   public static final GlobMatcher CLASSPATH_FILE_MATCHER = new GlobMatcher(".classpath");
   public static final GlobMatcher PROJECT_FILE_MATCHER = new GlobMatcher(".project");
 
+  private static final String GLOB_SPECIAL_CHARS = "*?[]{}\\/";
+  private static final String GLOB_GROUP_CHARS = "{},\\";
+  private static final boolean CASE_INSENSITIVE_GLOBS = getDefault().getPathMatcher("glob:A").matches(Paths.get("a"));
+
   private List<GlobMatcher> muleExcludeMatchers =
       newArrayList(CLASSPATH_FILE_MATCHER, PROJECT_FILE_MATCHER);
 
-  public MuleExclusionMatcher() {}
+  private final Set<String> excludedFileNames = new HashSet<>();
+  private final List<PathMatcher> patternMatchers = new ArrayList<>();
+
+  public MuleExclusionMatcher() {
+    compile();
+  }
 
   /**
    * Creates a muleExclusionMatcher based on the _muleExcludes file.
@@ -42,6 +63,7 @@ public class MuleExclusionMatcher implements PathMatcher {
   public MuleExclusionMatcher(Path projectBaseFolder) throws IOException {
     checkArgument(projectBaseFolder != null, "Project base folder should not be null");
     parse(new File(projectBaseFolder.toFile(), MULE_EXCLUDE_FILENAME));
+    compile();
   }
 
   private void parse(File file) throws IOException {
@@ -50,6 +72,31 @@ public class MuleExclusionMatcher implements PathMatcher {
     }
   }
 
+  private void compile() {
+    List<String> groupablePatterns = new ArrayList<>();
+    for (GlobMatcher matcher : muleExcludeMatchers) {
+      String pattern = matcher.getPattern();
+      if (containsNone(pattern, GLOB_SPECIAL_CHARS)) {
+        // A plain name can only match the file name of a path
+        excludedFileNames.add(normalize(pattern));
+      } else if (containsAny(pattern, GLOB_GROUP_CHARS)) {
+        // Groups cannot be nested, nor can their alternatives contain commas
+        patternMatchers.add(matcher);
+      } else {
+        groupablePatterns.add(pattern);
+      }
+    }
+    if (groupablePatterns.size() == 1) {
+      patternMatchers.add(new GlobMatcher(groupablePatterns.get(0)));
+    } else if (!groupablePatterns.isEmpty()) {
+      patternMatchers.add(new GlobMatcher(groupablePatterns.stream().collect(joining(",", "{", "}"))));
+    }
+  }
+
+  private static String normalize(String fileName) {
+    return CASE_INSENSITIVE_GLOBS ? fileName.toLowerCase(ROOT) : fileName;
+  }
+
   /**
    * Checks if the path should be excluded according to patterns in the mule exclude file.
    * 
@@ -57,6 +104,18 @@ public class MuleExclusionMatcher implements PathMatcher {
    * @return true either if the path is null or if it matches at least one of the path exclusions
    */
   public boolean matches(Path file) {
-    return muleExcludeMatchers.stream().anyMatch(pattern -> pattern.matches(file));
+    if (file == null) {
+      return true;
+    }
+    Path fileName = file.getFileName();
+    if (fileName != null && excludedFileNames.contains(normalize(fileName.toString()))) {
+      return true;
+    }
+    for (PathMatcher matcher : patternMatchers) {
+      if (matcher.matches(file)) {
+        return true;
+      }
+    }
+    return false;
   }
 }
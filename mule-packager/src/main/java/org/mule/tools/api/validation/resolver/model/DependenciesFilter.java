@@ -9,6 +9,7 @@ package org.mule.tools.api.validation.resolver.model;
 import org.apache.commons.lang3.StringUtils;
 import org.mule.tools.api.classloader.model.ArtifactCoordinates;
 
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -82,4 +83,21 @@ public class DependenciesFilter {
   protected Predicate<ArtifactCoordinates> satisfies(String classifier, String scope, String type) {
     return hasClassifier(classifier).and(hasScope(scope)).and(hasType(type));
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    DependenciesFilter that = (DependenciesFilter) o;
+    return Objects.equals(classifier, that.classifier) && Objects.equals(scope, that.scope);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(classifier, scope);
+  }
 }
@@ -13,8 +13,10 @@ import org.mule.tools.api.util.Project;
 import org.mule.tools.api.util.ProjectBuilder;
 import org.mule.tools.api.validation.resolver.visitor.DependencyNodeVisitor;
 
+import java.util.Map;
 import java.util.Set;
 
+import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Sets.newHashSet;
 import static org.mule.tools.api.validation.VersionUtils.isRange;
 
@@ -27,6 +29,17 @@ public class ProjectDependencyNode {
 
   private final ProjectBuilder builder;
 
+  /**
+   * Nodes already built in the tree this node belongs to, keyed by GAV, so a dependency reached from several paths is only
+   * built and expanded once.
+   */
+  private final Map<String, ProjectDependencyNode> nodes;
+
+  /**
+   * The children of this node already computed for each filter.
+   */
+  private final Map<DependenciesFilter, Set<ProjectDependencyNode>> children = newHashMap();
+
   /**
    * Represents a node in the dependency tree.
    * 
@@ -34,8 +47,13 @@ public class ProjectDependencyNode {
    * @param builder A builder to the project. It is usually implemented using build tool classes, such as MavenProjectBuilder
    */
   public ProjectDependencyNode(Project project, ProjectBuilder builder) {
+    this(project, builder, newHashMap());
+  }
+
+  private ProjectDependencyNode(Project project, ProjectBuilder builder, Map<String, ProjectDependencyNode> nodes) {
     this.project = project;
     this.builder = builder;
+    this.nodes = nodes;
   }
 
   /**
@@ -65,15 +83,18 @@ public class ProjectDependencyNode {
   public Set<ProjectDependencyNode> getChildren(DependenciesFilter filter)
       throws ValidationException {
 
-    Set<ProjectDependencyNode> children = newHashSet();
-
-    for (ArtifactCoordinates dependency : getDependencies(filter)) {
-      if (!isRange(dependency.getVersion())) {
-        children.add(buildNode(dependency));
+    Set<ProjectDependencyNode> filteredChildren = children.get(filter);
+    if (filteredChildren == null) {
+      filteredChildren = newHashSet();
+      for (ArtifactCoordinates dependency : getDependencies(filter)) {
+        if (!isRange(dependency.getVersion())) {
+          filteredChildren.add(buildNode(dependency));
+        }
       }
+      children.put(filter, filteredChildren);
     }
 
-    return children;
+    return newHashSet(filteredChildren);
   }
 
   /**
@@ -94,11 +115,16 @@ public class ProjectDependencyNode {
    * @throws ValidationException If the dependency cannot be built into a project
    */
   public ProjectDependencyNode buildNode(ArtifactCoordinates dependency) throws ValidationException {
-    try {
-      Project project = builder.buildProject(dependency);
-      return new ProjectDependencyNode(project, builder);
-    } catch (ProjectBuildingException e) {
-      throw new ValidationException(e);
+    String gav = dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion();
+    ProjectDependencyNode node = nodes.get(gav);
+    if (node == null) {
+      try {
+        node = new ProjectDependencyNode(builder.buildProject(dependency), builder, nodes);
+      } catch (ProjectBuildingException e) {
+        throw new ValidationException(e);
+      }
+      nodes.put(gav, node);
     }
+    return node;
   }
 }
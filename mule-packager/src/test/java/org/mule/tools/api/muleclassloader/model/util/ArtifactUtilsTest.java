@@ -26,6 +26,9 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -215,6 +218,23 @@ class ArtifactUtilsTest {
     assertThat(actualBundleDescriptor.getType()).as("The type is not the expected").isEqualTo(DEFAULT_ARTIFACT_DESCRIPTOR_TYPE);
   }
 
+  @Test
+  void indexByGroupAndArtifactIdTest() {
+    Artifact artifact = new Artifact(new ArtifactCoordinates(GROUP_ID, ARTIFACT_ID, VERSION), bundleURI);
+    Artifact pluginArtifact =
+        new Artifact(new ArtifactCoordinates(GROUP_ID, ARTIFACT_ID, VERSION, DEFAULT_ARTIFACT_DESCRIPTOR_TYPE, MULE_PLUGIN),
+                     bundleURI);
+    Artifact otherArtifact = new Artifact(new ArtifactCoordinates(PARENT_GROUP_ID, ARTIFACT_ID, VERSION), bundleURI);
+
+    Map<String, List<Artifact>> index =
+        ArtifactUtils.indexByGroupAndArtifactId(Arrays.asList(artifact, pluginArtifact, otherArtifact));
+
+    assertThat(index).hasSize(2);
+    assertThat(index.get(ArtifactUtils.getGroupAndArtifactIdKey(GROUP_ID, ARTIFACT_ID))).containsExactly(artifact,
+                                                                                                         pluginArtifact);
+    assertThat(index.get(ArtifactUtils.getGroupAndArtifactIdKey(PARENT_GROUP_ID, ARTIFACT_ID))).containsExactly(otherArtifact);
+  }
+
   @Test
   void getBundleDescriptorTest() {
     ApplicationGAVModel appGAVModel = new ApplicationGAVModel(GROUP_ID, ARTIFACT_ID, VERSION);
@@ -7,6 +7,7 @@
 
 package org.mule.tools.api.packager.archiver;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Paths.get;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -16,13 +17,19 @@ import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
 import static org.mule.tools.api.packager.structure.FolderNames.MULE_ARTIFACT;
 import static org.mule.tools.api.packager.structure.FolderNames.MULE_SRC;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.codehaus.plexus.archiver.zip.ZipArchiver;
 import org.codehaus.plexus.archiver.zip.ZipUnArchiver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 public class MuleArchiverTest extends AbstractMuleArchiverTest {
 
@@ -57,6 +64,30 @@ public class MuleArchiverTest extends AbstractMuleArchiverTest {
     assertCompleteAppContent(destinationDirectoryForUnzip);
   }
 
+  @Test
+  public void addedJarsAreStoredAndOtherFilesDeflated() throws Exception {
+    File repository = targetFileFolder.resolve("repository-source").toFile();
+    File library = new File(repository, "library.jar");
+    library.getParentFile().mkdirs();
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(library))) {
+      out.putNextEntry(new ZipEntry("org/mule/Library.class"));
+      out.write(new byte[1024]);
+      out.closeEntry();
+    }
+    File descriptor = new File(repository, "descriptor.txt");
+    FileUtils.writeStringToFile(descriptor, StringUtils.repeat("content ", 100), UTF_8);
+    File destinationFile = new File(targetFileFolder.toAbsolutePath().toFile(), "stored.zip");
+
+    archiver.addRepository(repository, null, null);
+    archiver.setDestFile(destinationFile);
+    archiver.createArchive();
+
+    try (ZipFile zipFile = new ZipFile(destinationFile)) {
+      assertThat(zipFile.getEntry("repository/library.jar").getMethod()).isEqualTo(ZipEntry.STORED);
+      assertThat(zipFile.getEntry("repository/descriptor.txt").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+    }
+  }
+
   private File uncompressArchivedApp(File destinationFile) {
     final File destinationDirectoryForUnzip = getDestinationDirectoryForUnzip();
     final ZipUnArchiver zipUnArchiver = new ZipUnArchiver();
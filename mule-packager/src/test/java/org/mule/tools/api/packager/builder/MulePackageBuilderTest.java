@@ -7,6 +7,12 @@
 
 package org.mule.tools.api.packager.builder;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static com.google.common.io.Files.asByteSource;
+import static org.apache.commons.io.FileUtils.readFileToByteArray;
+import static org.apache.commons.io.FileUtils.readFileToString;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -14,6 +20,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.tools.api.packager.builder.MulePackageBuilder.CLASSLOADER_MODEL_JSON;
+import static org.mule.tools.api.packager.builder.MulePackageBuilder.DIGEST_FILE_EXTENSION;
 import static org.mule.tools.api.packager.structure.FolderNames.CLASSES;
 import static org.mule.tools.api.packager.structure.FolderNames.MAVEN;
 import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
@@ -27,8 +34,12 @@ import static org.mule.tools.api.packager.structure.FolderNames.TEST_MULE;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.List;
 
+import com.google.common.hash.Hashing;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -639,5 +650,39 @@ public class MulePackageBuilderTest {
     verify(archiverMock, times(1)).createArchive();
   }
 
+  @Test
+  public void reproduciblePackageHasSameBytesAndPublishesDigest() throws IOException {
+    Path targetPath = fakeTargetFolder.toPath();
+    File config = targetPath.resolve(CLASSES.value()).resolve("mule-config.xml").toFile();
+    File library = targetPath.resolve(REPOSITORY.value()).resolve("library.jar").toFile();
+    writeStringToFile(config, "<mule/>", UTF_8);
+    writeStringToFile(library, "library", UTF_8);
+    File otherDestinationFile = new File(fakeTargetFolder, "other-destination.jar");
+
+    createReproduciblePackage(destinationFile);
+    config.setLastModified(config.lastModified() - 60000);
+    library.setLastModified(library.lastModified() + 60000);
+    createReproduciblePackage(otherDestinationFile);
 
+    assertThat(readFileToByteArray(otherDestinationFile)).isEqualTo(readFileToByteArray(destinationFile));
+    File digestFile = new File(fakeTargetFolder, "destination.jar" + DIGEST_FILE_EXTENSION);
+    assertThat(digestFile).exists();
+    assertThat(readFileToString(digestFile, UTF_8))
+        .isEqualTo(asByteSource(destinationFile).hash(Hashing.sha256()) + "  destination.jar\n");
+  }
+
+  private void createReproduciblePackage(File destination) throws IOException {
+    Path targetPath = fakeTargetFolder.toPath();
+    PackagingOptions packagingOptions = new PackagingOptions(false, false, false, false, false);
+    packagingOptions.setOutputTimestamp(FileTime.from(Instant.parse("2023-01-01T00:00:00Z")));
+    MulePackageBuilder reproducibleBuilder = new MulePackageBuilder().withPackagingOptions(packagingOptions);
+    reproducibleBuilder.withClasses(targetPath.resolve(CLASSES.value()).toFile())
+        .withMaven(targetPath.resolve(META_INF.value()).resolve(MAVEN.value()).toFile())
+        .withMuleArtifact(targetPath.resolve(META_INF.value()).resolve(MULE_ARTIFACT.value()).toFile())
+        .withRepository(targetPath.resolve(REPOSITORY.value()).toFile());
+
+    reproducibleBuilder.createPackage(destination.toPath());
+
+    assertThat(reproducibleBuilder.getArchiveDigest()).hasValue(asByteSource(destination).hash(Hashing.sha256()).toString());
+  }
 }
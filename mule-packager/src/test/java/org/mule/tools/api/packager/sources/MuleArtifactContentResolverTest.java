@@ -307,6 +307,28 @@ public class MuleArtifactContentResolverTest {
         .isExactlyInstanceOf(RuntimeException.class);
   }
 
+  @Test
+  public void getConfigsIgnoresNonMuleXmlFilesTest() throws IOException {
+    File config = new File(muleFolder, CONFIG_1);
+    File schema = new File(muleFolder, "schema.xml");
+    FileUtils.writeStringToFile(config, DEFAULT_MULE_CONFIG_CONTENT, Charset.defaultCharset());
+    FileUtils.writeStringToFile(schema, "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\"><xs:element",
+                                Charset.defaultCharset());
+
+    assertThat(resolver.getConfigs()).describedAs("Only Mule configs should be listed").containsExactly(CONFIG_1);
+  }
+
+  @Test
+  public void modifiedConfigIsReadAgainTest() throws IOException {
+    File config = new File(muleFolder, CONFIG_1);
+    FileUtils.writeStringToFile(config, DEFAULT_MULE_DOMAIN_CONFIG_CONTENT, Charset.defaultCharset());
+    assertThat(resolver.isApplication()).describedAs("Config file is for a domain").isFalse();
+
+    FileUtils.writeStringToFile(config, DEFAULT_MULE_CONFIG_CONTENT, Charset.defaultCharset());
+    resolver = newResolver(new ProjectStructure(temporaryFolder.toAbsolutePath(), false), mock(Pom.class), new ArrayList<>());
+    assertThat(resolver.isApplication()).describedAs("Config file is for an application").isTrue();
+  }
+
   @Test
   public void getTestConfigsTest() throws IOException {
     File config1 = new File(munitFolder, CONFIG_1);
@@ -8,6 +8,8 @@
 package org.mule.tools.api.repository;
 
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.tools.api.classloader.Constants.CLASSLOADER_MODEL_FILE_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.Mockito.*;
@@ -81,6 +83,40 @@ public class ArtifactInstallerTest {
     assertThat(pomFile).describedAs("Pom file was not copied").exists();
   }
 
+  @Test
+  public void installLinkedArtifactTest() throws IOException {
+    ArtifactCoordinates coordinates = new ArtifactCoordinates(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, CLASSIFIER);
+    Path artifactFile = Files.write(artifactFileFolder.resolve(ARTIFACT_FILE_NAME), "linked".getBytes(UTF_8));
+    artifact = new Artifact(coordinates, artifactFile.toUri());
+    File installedFile =
+        new File(outputFolder.toAbsolutePath().toFile(), OUTPUT_DIRECTORY + File.separator + GENERATED_PACKAGE_NAME);
+
+    new ArtifactInstaller(logMock, true).installArtifact(outputFolder.toAbsolutePath().toFile(), artifact, Optional.empty(),
+                                                         false);
+
+    assertThat(installedFile).hasContent("linked");
+    assertThat(Files.isSameFile(installedFile.toPath(), artifactFile)).describedAs("File was not linked").isTrue();
+  }
+
+  @Test
+  public void installArtifactOverLinkedArtifactTest() throws IOException {
+    ArtifactCoordinates coordinates = new ArtifactCoordinates(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, CLASSIFIER);
+    Path linkedFile = Files.write(artifactFileFolder.resolve(ARTIFACT_FILE_NAME), "linked".getBytes(UTF_8));
+    Path copiedFile = Files.write(artifactFileFolder.resolve(FILE_NAME), "copied".getBytes(UTF_8));
+    File installedFile =
+        new File(outputFolder.toAbsolutePath().toFile(), OUTPUT_DIRECTORY + File.separator + GENERATED_PACKAGE_NAME);
+    new ArtifactInstaller(logMock, true).installArtifact(outputFolder.toAbsolutePath().toFile(),
+                                                         new Artifact(coordinates, linkedFile.toUri()), Optional.empty(),
+                                                         false);
+
+    new ArtifactInstaller(logMock, false).installArtifact(outputFolder.toAbsolutePath().toFile(),
+                                                          new Artifact(coordinates, copiedFile.toUri()), Optional.empty(),
+                                                          false);
+
+    assertThat(installedFile).hasContent("copied");
+    assertThat(linkedFile).describedAs("Linked file should not be modified").hasContent("linked");
+  }
+
   @Test
   public void installNullArtifactTest() {
     assertThatThrownBy(() -> installer.installArtifact(outputFolder.toFile(), null, Optional.empty()))
@@ -109,6 +145,26 @@ public class ArtifactInstallerTest {
     verify(artifactInstallerSpy, times(0)).generatePomFile(any(), any());
   }
 
+  @Test
+  public void generateDependencyDescriptorFileWithManifestUsesHookTest() throws IOException {
+    artifact.setUri(Files.createFile(artifactFileFolder.resolve(ARTIFACT_FILE_NAME)).toUri());
+    ClassLoaderModel model = new ClassLoaderModel(VERSION, artifact.getArtifactCoordinates());
+    File repositoryFolder = outputFolder.toFile();
+    File manifestFile = artifactFileFolder.resolve(FILE_NAME).toFile();
+    ArtifactInstaller artifactInstallerSpy = spy(installer);
+    doAnswer(invocation -> Files.createFile(new File((File) invocation.getArgument(1), CLASSLOADER_MODEL_FILE_NAME).toPath()))
+        .when(artifactInstallerSpy).generateClassloderModelFile(eq(model), any(), eq(false));
+
+    RepositoryManifest manifest = RepositoryManifest.load(manifestFile, repositoryFolder);
+    artifactInstallerSpy.installArtifact(repositoryFolder, artifact, Optional.of(model), false, manifest);
+    manifest.commit();
+    RepositoryManifest nextManifest = RepositoryManifest.load(manifestFile, repositoryFolder);
+    artifactInstallerSpy.installArtifact(repositoryFolder, artifact, Optional.of(model), false, nextManifest);
+
+    verify(artifactInstallerSpy, times(1)).generateClassloderModelFile(eq(model), any(), eq(false));
+    verify(artifactInstallerSpy, times(0)).generatePomFile(any(), any());
+  }
+
   @Test
   public void generatePomFileWhenPomFileNameDoesNotExistTest() throws IOException {
     artifact.setUri(Files.createFile(artifactFileFolder.resolve(DEFAULT_POM_FILE_NAME)).toUri());
@@ -101,7 +101,7 @@ class RepositoryGeneratorTest {
     when(appModelMock.getArtifacts()).thenReturn(Collections.emptySet());
     repositoryGeneratorSpy.installArtifacts(repositoryFolder, artifactInstallerMock, appModelMock, false);
     verify(repositoryGeneratorSpy, times(1)).generateMarkerFileInRepositoryFolder(repositoryFolder);
-    verify(artifactInstallerMock, times(0)).installArtifact(any(), any(), any(), eq(false));
+    verify(artifactInstallerMock, times(0)).installArtifact(any(), any(), any(), eq(false), any());
   }
 
   @Test
@@ -111,7 +111,28 @@ class RepositoryGeneratorTest {
     when(appModelMock.getArtifacts()).thenReturn(artifacts);
     repositoryGeneratorSpy.installArtifacts(repositoryFolder, artifactInstallerMock, appModelMock, true);
     verify(repositoryGeneratorSpy, times(0)).generateMarkerFileInRepositoryFolder(repositoryFolder);
-    verify(artifactInstallerMock, times(NUMBER_ARTIFACTS)).installArtifact(any(), any(), any(), eq(true));
+    verify(artifactInstallerMock, times(NUMBER_ARTIFACTS)).installArtifact(any(), any(), any(), eq(true), any());
+  }
+
+  @Test
+  void installArtifactsSequentiallyTest() throws IOException {
+    File repositoryFolder = temporaryFolder.toFile();
+    buildArtifacts();
+    when(appModelMock.getArtifacts()).thenReturn(artifacts);
+    when(repositoryGeneratorSpy.getInstallThreads()).thenReturn(1);
+    repositoryGeneratorSpy.installArtifacts(repositoryFolder, artifactInstallerMock, appModelMock, true);
+    verify(artifactInstallerMock, times(NUMBER_ARTIFACTS)).installArtifact(any(), any(), any(), eq(true), any());
+  }
+
+  @Test
+  void installArtifactsFailureIsPropagatedTest() throws IOException {
+    File repositoryFolder = temporaryFolder.toFile();
+    buildArtifacts();
+    when(appModelMock.getArtifacts()).thenReturn(artifacts);
+    when(repositoryGeneratorSpy.getInstallThreads()).thenReturn(4);
+    doThrow(new IOException("copy failed")).when(artifactInstallerMock).installArtifact(any(), any(), any(), eq(true), any());
+    assertThatThrownBy(() -> repositoryGeneratorSpy.installArtifacts(repositoryFolder, artifactInstallerMock, appModelMock, true))
+        .isExactlyInstanceOf(IOException.class).hasMessage("copy failed");
   }
 
   @Test
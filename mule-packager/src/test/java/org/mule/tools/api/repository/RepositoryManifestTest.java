@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.repository;
+
+import static com.google.common.hash.Hashing.sha256;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RepositoryManifestTest {
+
+  private static final String GAV = "group:artifact:1.0.0";
+
+  @TempDir
+  public File temporaryFolder;
+
+  private File manifestFile;
+  private File repositoryFolder;
+  private File source;
+  private File target;
+
+  @BeforeEach
+  void before() throws IOException {
+    manifestFile = new File(temporaryFolder, RepositoryManifest.REPOSITORY_MANIFEST_FILE_NAME);
+    repositoryFolder = new File(temporaryFolder, "repository");
+    source = new File(temporaryFolder, "artifact.jar");
+    target = new File(repositoryFolder, "group/artifact/1.0.0/artifact-1.0.0.jar");
+    Files.write(source.toPath(), "content".getBytes(UTF_8));
+    target.getParentFile().mkdirs();
+    Files.copy(source.toPath(), target.toPath());
+  }
+
+  @Test
+  void unchangedSourceIsUpToDate() throws IOException {
+    RepositoryManifest manifest = RepositoryManifest.load(manifestFile, repositoryFolder);
+    assertThat(manifest.isUpToDate(target, source)).isFalse();
+    manifest.recordCopy(GAV, target, source);
+    manifest.commit();
+
+    assertThat(RepositoryManifest.load(manifestFile, repositoryFolder).isUpToDate(target, source)).isTrue();
+  }
+
+  @Test
+  void modifiedSourceIsNotUpToDate() throws IOException {
+    RepositoryManifest manifest = RepositoryManifest.load(manifestFile, repositoryFolder);
+    manifest.recordCopy(GAV, target, source);
+    manifest.commit();
+
+    Files.write(source.toPath(), "modified content".getBytes(UTF_8));
+
+    assertThat(RepositoryManifest.load(manifestFile, repositoryFolder).isUpToDate(target, source)).isFalse();
+  }
+
+  @Test
+  void generatedContentIsComparedByChecksum() throws IOException {
+    File classLoaderModel = new File(target.getParentFile(), "classloader-model.json");
+    Files.write(classLoaderModel.toPath(), "{}".getBytes(UTF_8));
+    RepositoryManifest manifest = RepositoryManifest.load(manifestFile, repositoryFolder);
+    manifest.recordContent(GAV, classLoaderModel, sha256().hashString("{}", UTF_8));
+    manifest.commit();
+
+    RepositoryManifest reloaded = RepositoryManifest.load(manifestFile, repositoryFolder);
+    assertThat(reloaded.isUpToDate(classLoaderModel, sha256().hashString("{}", UTF_8))).isTrue();
+    assertThat(reloaded.isUpToDate(classLoaderModel, sha256().hashString("{\"dependencies\":[]}", UTF_8))).isFalse();
+  }
+
+  @Test
+  void filesNoLongerInstalledAreDeleted() throws IOException {
+    RepositoryManifest manifest = RepositoryManifest.load(manifestFile, repositoryFolder);
+    manifest.recordCopy(GAV, target, source);
+    manifest.commit();
+
+    RepositoryManifest.load(manifestFile, repositoryFolder).commit();
+
+    assertThat(target).doesNotExist();
+    assertThat(new File(repositoryFolder, "group")).doesNotExist();
+    assertThat(repositoryFolder).exists();
+  }
+}
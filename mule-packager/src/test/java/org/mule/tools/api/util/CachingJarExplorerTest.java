@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingJarExplorerTest {
+
+  @TempDir
+  public File temporaryFolder;
+
+  @Test
+  void jarIsExploredOnlyOnce() throws IOException {
+    File jar = createJar("first.jar");
+    JarExplorer delegate = spy(new FileJarExplorer());
+    CachingJarExplorer explorer = new CachingJarExplorer(delegate, new File(temporaryFolder, "cache"));
+
+    JarInfo first = explorer.explore(jar.toURI());
+    JarInfo second = explorer.explore(jar.toURI());
+
+    verify(delegate, times(1)).explore(any());
+    assertThat(first.getPackages()).containsExactly("org.foo");
+    assertThat(first.getResources()).containsExactly("META-INF/resource.txt");
+    assertThat(second.getPackages()).isEqualTo(first.getPackages());
+    assertThat(second.getResources()).isEqualTo(first.getResources());
+  }
+
+  @Test
+  void exploredJarIsPersisted() throws IOException {
+    File jar = createJar("second.jar");
+    File cacheDirectory = new File(temporaryFolder, "cache");
+    new CachingJarExplorer(new FileJarExplorer(), cacheDirectory).explore(jar.toURI());
+
+    assertThat(cacheDirectory.listFiles((dir, name) -> name.startsWith("v1-") && name.endsWith(".json"))).hasSize(1);
+  }
+
+  @Test
+  void memoryCacheIsNotSharedAcrossDelegates() throws IOException {
+    File jar = createJar("third.jar");
+    JarExplorer firstDelegate = spy(new FileJarExplorer());
+    JarExplorer secondDelegate = spy(new FileJarExplorer());
+
+    new CachingJarExplorer(firstDelegate, null).explore(jar.toURI());
+    new CachingJarExplorer(secondDelegate, null).explore(jar.toURI());
+
+    verify(firstDelegate, times(1)).explore(any());
+    verify(secondDelegate, times(1)).explore(any());
+  }
+
+  @Test
+  void jarsOutsideRepositoryAreNotCached() throws IOException {
+    File jar = createJar("fourth.jar");
+    File cacheDirectory = new File(temporaryFolder, "cache");
+    JarExplorer delegate = spy(new FileJarExplorer());
+    CachingJarExplorer explorer = new CachingJarExplorer(delegate, cacheDirectory, new File(temporaryFolder, "repository"));
+
+    explorer.explore(jar.toURI());
+    explorer.explore(jar.toURI());
+
+    verify(delegate, times(2)).explore(any());
+    assertThat(cacheDirectory).doesNotExist();
+  }
+
+  @Test
+  void foldersAreNotCached() throws IOException {
+    JarExplorer delegate = spy(new FileJarExplorer());
+    CachingJarExplorer explorer = new CachingJarExplorer(delegate, new File(temporaryFolder, "cache"));
+
+    explorer.explore(temporaryFolder.toURI());
+    explorer.explore(temporaryFolder.toURI());
+
+    verify(delegate, times(2)).explore(any());
+  }
+
+  private File createJar(String name) throws IOException {
+    File jar = new File(temporaryFolder, name);
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry("org/foo/Bar.class"));
+      out.write(new byte[] {0});
+      out.closeEntry();
+      out.putNextEntry(new ZipEntry("META-INF/resource.txt"));
+      out.write(new byte[] {0});
+      out.closeEntry();
+    }
+    return jar;
+  }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
 import static java.util.Collections.singletonList;
@@ -21,7 +22,10 @@ import java.io.IOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -192,4 +196,101 @@ public class CopyFileVisitorTest {
     }
   }
 
+  @Test
+  public void synchronizeCopiesOnlyChangedFiles() throws IOException {
+    File changedFile = new File(fromFolder, "changed.xml");
+    Files.write(changedFile.toPath(), "<mule/>".getBytes(UTF_8));
+    File unchangedFile = new File(fromFolder, "unchanged.xml");
+    Files.write(unchangedFile.toPath(), "<mule/>".getBytes(UTF_8));
+    synchronize();
+
+    Path unchangedTarget = targetFolder.toPath().resolve("unchanged.xml");
+    assertThat(Files.getLastModifiedTime(unchangedTarget).toMillis())
+        .isEqualTo(Files.getLastModifiedTime(unchangedFile.toPath()).toMillis());
+    // A modification of the copy shows whether it is overwritten by the next synchronization
+    Files.write(unchangedTarget, "<copy/>".getBytes(UTF_8));
+    Files.setLastModifiedTime(unchangedTarget, Files.getLastModifiedTime(unchangedFile.toPath()));
+    Files.write(changedFile.toPath(), "<mule><flow name=\"flow\"/></mule>".getBytes(UTF_8));
+    synchronize();
+
+    assertThat(new String(Files.readAllBytes(unchangedTarget), UTF_8)).isEqualTo("<copy/>");
+    assertThat(new String(Files.readAllBytes(targetFolder.toPath().resolve("changed.xml")), UTF_8))
+        .isEqualTo("<mule><flow name=\"flow\"/></mule>");
+  }
+
+  @Test
+  public void synchronizeDetectsChangesWithSameSize() throws IOException {
+    File file = new File(fromFolder, "config.xml");
+    Files.write(file.toPath(), "<a/>".getBytes(UTF_8));
+    synchronize();
+
+    Files.write(file.toPath(), "<b/>".getBytes(UTF_8));
+    Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(Files.getLastModifiedTime(file.toPath()).toMillis() + 2000));
+    synchronize();
+
+    assertThat(new String(Files.readAllBytes(targetFolder.toPath().resolve("config.xml")), UTF_8)).isEqualTo("<b/>");
+  }
+
+  @Test
+  public void synchronizeDeletesRemovedEntries() throws IOException {
+    File folder = new File(fromFolder, "folder");
+    folder.mkdir();
+    new File(folder, "nested.xml").createNewFile();
+    File removedFolder = new File(fromFolder, "removed-folder");
+    removedFolder.mkdir();
+    new File(removedFolder, "removed.xml").createNewFile();
+    synchronize();
+    assertThat(targetFolder.toPath().resolve("removed-folder").resolve("removed.xml")).exists();
+
+    Files.delete(removedFolder.toPath().resolve("removed.xml"));
+    Files.delete(removedFolder.toPath());
+    Files.delete(normalFile.toPath());
+    synchronize();
+
+    assertThat(targetFolder.toPath().resolve("removed-folder")).doesNotExist();
+    assertThat(targetFolder.toPath().resolve(NORMAL_FILE)).doesNotExist();
+    assertThat(targetFolder.toPath().resolve("folder").resolve("nested.xml")).exists();
+  }
+
+  @Test
+  public void synchronizeDeletesExcludedEntries() throws IOException {
+    File excludedFolder = new File(fromFolder, "excluded");
+    excludedFolder.mkdir();
+    new File(excludedFolder, "excluded.xml").createNewFile();
+    synchronize();
+    assertThat(targetFolder.toPath().resolve("excluded").resolve("excluded.xml")).exists();
+
+    CopyFileVisitor visitor = new CopyFileVisitor(fromFolder, targetFolder);
+    visitor.setSynchronize(true);
+    visitor.setExclusions(singletonList(excludedFolder.toPath()));
+    Files.walkFileTree(fromFolder.toPath(), visitor);
+
+    assertThat(targetFolder.toPath().resolve("excluded")).doesNotExist();
+    assertThat(targetFolder.toPath().resolve(NORMAL_FILE)).exists();
+  }
+
+  @Test
+  public void excludedFolderIsNotVisited() throws IOException {
+    File excludedFolder = new File(fromFolder, "node_modules");
+    new File(excludedFolder, "module").mkdirs();
+    new File(excludedFolder, "module/index.js").createNewFile();
+    List<Path> visited = new ArrayList<>();
+    PathMatcher matcher = path -> {
+      visited.add(path);
+      return path.getFileName().toString().equals("node_modules");
+    };
+
+    Files.walkFileTree(fromFolder.toPath(), new CopyFileVisitor(fromFolder, targetFolder, false, false, matcher));
+
+    assertThat(visited).contains(excludedFolder.toPath())
+        .noneMatch(path -> path.startsWith(excludedFolder.toPath().resolve("module")));
+    assertThat(targetFolder.toPath().resolve("node_modules")).doesNotExist();
+    assertThat(targetFolder.toPath().resolve(NORMAL_FILE)).exists();
+  }
+
+  private void synchronize() throws IOException {
+    CopyFileVisitor visitor = new CopyFileVisitor(fromFolder, targetFolder);
+    visitor.setSynchronize(true);
+    Files.walkFileTree(fromFolder.toPath(), visitor);
+  }
 }
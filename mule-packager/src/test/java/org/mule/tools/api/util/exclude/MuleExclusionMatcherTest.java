@@ -70,6 +70,25 @@ public class MuleExclusionMatcherTest {
     assertThat(matcher.matches(shouldNotMatchConfigFile.toPath())).describedAs("This file should not be matched").isFalse();
   }
 
+  @Test
+  public void literalAndGroupedPatternsTest() throws IOException {
+    writeLinesToMuleExcludeFile("node_modules", "*.log", "**/build/**", "*.{tmp,bak}", "[ab]?.txt");
+    buildMuleExclusionMatcher();
+
+    assertThat(matcher.matches(temporaryFolder.resolve("node_modules"))).isTrue();
+    assertThat(matcher.matches(temporaryFolder.resolve("src/node_modules"))).isTrue();
+    assertThat(matcher.matches(temporaryFolder.resolve("node_modules.xml"))).isFalse();
+    assertThat(matcher.matches(temporaryFolder.resolve("logs/app.log"))).isTrue();
+    assertThat(matcher.matches(temporaryFolder.resolve("module/build/file.xml"))).isTrue();
+    assertThat(matcher.matches(temporaryFolder.resolve("file.tmp"))).isTrue();
+    assertThat(matcher.matches(temporaryFolder.resolve("file.bak"))).isTrue();
+    assertThat(matcher.matches(temporaryFolder.resolve("a1.txt"))).isTrue();
+    assertThat(matcher.matches(temporaryFolder.resolve("c1.txt"))).isFalse();
+    assertThat(matcher.matches(temporaryFolder.resolve(".classpath"))).isTrue();
+    assertThat(matcher.matches(temporaryFolder.resolve("src/main/mule/config.xml"))).isFalse();
+    assertThat(matcher.matches(null)).isTrue();
+  }
+
   private void writeLinesToMuleExcludeFile(String... lines) throws IOException {
     writeLines(muleExcludeFile, Arrays.asList(lines));
   }
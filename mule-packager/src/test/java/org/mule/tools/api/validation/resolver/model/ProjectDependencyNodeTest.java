@@ -47,4 +47,24 @@ public class ProjectDependencyNodeTest {
     assertThat(nodeSpy.getChildren(filterMock)).describedAs("List of artifact coordinates is not the expected")
         .isEqualTo(newHashSet(dependenciesMock.values()));
   }
+
+  @Test
+  public void getChildrenIsMemoizedTest() throws ValidationException {
+    nodeSpy.getChildren(filterMock);
+    assertThat(nodeSpy.getChildren(filterMock)).describedAs("List of artifact coordinates is not the expected")
+        .isEqualTo(newHashSet(dependenciesMock.values()));
+    verify(nodeSpy, times(1)).getDependencies(filterMock);
+  }
+
+  @Test
+  public void buildNodeIsMemoizedByGavTest() throws Exception {
+    ArtifactCoordinates dependency = new ArtifactCoordinates("group", "artifact", "1.0.0");
+    ProjectDependencyNode node = new ProjectDependencyNode(projectMock, builderMock);
+    when(builderMock.buildProject(dependency)).thenReturn(mock(Project.class));
+
+    ProjectDependencyNode child = node.buildNode(dependency);
+
+    assertThat(child.buildNode(dependency)).isSameAs(node.buildNode(dependency));
+    verify(builderMock, times(1)).buildProject(dependency);
+  }
 }
@@ -20,6 +20,7 @@ import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.*;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.repository.RepositorySystem;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mule.tools.api.classloader.model.ArtifactCoordinates;
@@ -37,6 +38,8 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class MavenProjectBuilderTest {
@@ -110,6 +113,33 @@ public class MavenProjectBuilderTest {
     Project project = builder.buildProject(coordinates);
   }
 
+  @Test
+  public void projectsAreBuiltOncePerSession() throws Exception {
+    MavenSession session = mock(MavenSession.class);
+    ProjectBuildingRequest projectBuildingRequest = mock(ProjectBuildingRequest.class);
+    when(projectBuildingRequest.getRepositoryMerging()).thenReturn(ProjectBuildingRequest.RepositoryMerging.REQUEST_DOMINANT);
+    when(session.getProjectBuildingRequest()).thenReturn(projectBuildingRequest);
+    when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+    RepositorySystem repository = mock(RepositorySystem.class);
+    when(repository.createProjectArtifact(any(), any(), any()))
+        .thenReturn(new DefaultArtifact("groupId", "artifactId", "version", "scope", "type", "classifier", null));
+    ProjectBuildingResult result = mock(ProjectBuildingResult.class);
+    when(result.getProject()).thenReturn(mock(MavenProject.class));
+    ProjectBuilder projectBuilder = mock(ProjectBuilder.class);
+    when(projectBuilder.build(any(Artifact.class), any())).thenReturn(result);
+    ArtifactCoordinates coordinates = new ArtifactCoordinates("org.mule.tools.maven", "mule-classloader-model", "4.1.0");
+
+    Project project =
+        new MavenProjectBuilder(mock(Log.class), session, projectBuilder, repository, mock(ArtifactRepository.class),
+                                new ArrayList<>()).buildProject(coordinates);
+    Project sameProject =
+        new MavenProjectBuilder(mock(Log.class), session, projectBuilder, repository, mock(ArtifactRepository.class),
+                                new ArrayList<>()).buildProject(coordinates);
+
+    assertThat(sameProject).isSameAs(project);
+    verify(projectBuilder, times(1)).build(any(Artifact.class), any());
+  }
+
   public MavenProject buildMavenProjectMock() {
     Build buildMock = mock(Build.class);
 